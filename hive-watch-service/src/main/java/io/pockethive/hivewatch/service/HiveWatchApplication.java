@@ -1,15 +1,43 @@
 package io.pockethive.hivewatch.service;
 
+import io.pockethive.hivewatch.service.dashboard.DashboardProperties;
+import io.pockethive.hivewatch.service.datasource.ReplicaDataSourceProperties;
+import io.pockethive.hivewatch.service.datasource.ScannerPoolProperties;
+import io.pockethive.hivewatch.service.decision.DecisionProperties;
+import io.pockethive.hivewatch.service.observations.ObservationBusProperties;
+import io.pockethive.hivewatch.service.scans.ScanCadenceProperties;
+import io.pockethive.hivewatch.service.scans.ScanDemandProperties;
+import io.pockethive.hivewatch.service.scans.ScanLeaseProperties;
 import io.pockethive.hivewatch.service.security.HiveWatchAuthProperties;
 import io.pockethive.hivewatch.service.scans.ScanSchedulerProperties;
 import io.pockethive.hivewatch.service.scans.ScansProperties;
+import io.pockethive.hivewatch.service.state.FragmentCacheProperties;
+import io.pockethive.hivewatch.service.state.InvalidationProperties;
+import io.pockethive.hivewatch.service.status.PocketHiveProperties;
+import io.pockethive.hivewatch.service.testruns.TestRunProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties({HiveWatchAuthProperties.class, ScanSchedulerProperties.class, ScansProperties.class})
+@EnableConfigurationProperties({
+        HiveWatchAuthProperties.class,
+        ReplicaDataSourceProperties.class,
+        ScannerPoolProperties.class,
+        ScanSchedulerProperties.class,
+        ScanCadenceProperties.class,
+        ScanDemandProperties.class,
+        ScanLeaseProperties.class,
+        ScansProperties.class,
+        DashboardProperties.class,
+        DecisionProperties.class,
+        FragmentCacheProperties.class,
+        TestRunProperties.class,
+        InvalidationProperties.class,
+        ObservationBusProperties.class,
+        PocketHiveProperties.class
+})
 @EnableScheduling
 public class HiveWatchApplication {
     public static void main(String[] args) {
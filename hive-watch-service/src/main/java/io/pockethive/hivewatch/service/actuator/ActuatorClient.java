@@ -7,72 +7,63 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.net.ConnectException;
-import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class ActuatorClient {
     private final ObjectMapper objectMapper;
+    private final Map<UUID, ActuatorScanPlan> plans = new ConcurrentHashMap<>();
 
     public ActuatorClient(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
     }
 
     ActuatorFetchResult fetch(ActuatorTargetEntity target) {
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofMillis(target.getConnectTimeoutMs()))
-                .followRedirects(HttpClient.Redirect.NEVER)
-                .build();
+        ActuatorScanPlan plan = plan(target);
+        if (plan.error() != null) {
+            return ActuatorFetchResult.error(TomcatScanErrorKind.UNKNOWN, plan.error());
+        }
 
         try {
-            URI healthUri = endpointUri(target, "/actuator/health");
-            URI infoUri = endpointUri(target, "/actuator/info");
-            URI cpuUri = endpointUri(target, "/actuator/metrics/system.cpu.usage");
-            URI memUri = endpointUri(target, "/actuator/metrics/jvm.memory.used");
-
-            JsonNode health = getJson(client, healthUri, target.getRequestTimeoutMs());
+            JsonNode health = getJson(plan.client(), plan.health());
             String healthStatus = textOrThrow(health, "status");
 
-            JsonNode info = getJson(client, infoUri, target.getRequestTimeoutMs());
+            JsonNode info = getJson(plan.client(), plan.info());
             String appName = textOrThrow(info.path("app"), "name");
             String buildVersion = textOrNull(info.path("app").path("build"), "version");
 
-            JsonNode cpu = getJson(client, cpuUri, target.getRequestTimeoutMs());
+            JsonNode cpu = getJson(plan.client(), plan.cpu());
             double cpuUsage = metricValueAsDoubleOrThrow(cpu);
 
-            JsonNode mem = getJson(client, memUri, target.getRequestTimeoutMs());
+            JsonNode mem = getJson(plan.client(), plan.memory());
             long memoryUsedBytes = metricValueAsLongOrThrow(mem);
 
             return ActuatorFetchResult.success(healthStatus, appName, buildVersion, cpuUsage, memoryUsedBytes);
-        } catch (IllegalArgumentException e) {
-            return ActuatorFetchResult.error(TomcatScanErrorKind.UNKNOWN, e.getMessage());
         } catch (ActuatorFetchException e) {
             return ActuatorFetchResult.error(e.kind, e.getMessage());
         }
     }
 
-    private static URI endpointUri(ActuatorTargetEntity target, String suffixPath) {
-        try {
-            return ActuatorTargetValidation.endpointUri(
-                    target.getBaseUrl(),
-                    target.getPort(),
-                    target.getProfile(),
-                    suffixPath
-            );
-        } catch (IllegalArgumentException e) {
-            throw new ActuatorFetchException(TomcatScanErrorKind.UNKNOWN, e.getMessage());
+    void retainPlans(Set<UUID> targetIds) {
+        plans.keySet().retainAll(targetIds);
+    }
+
+    private ActuatorScanPlan plan(ActuatorTargetEntity target) {
+        ActuatorScanPlan plan = plans.get(target.getId());
+        if (plan == null || !plan.compiledFrom(target)) {
+            plan = ActuatorScanPlan.compile(target);
+            plans.put(target.getId(), plan);
         }
+        return plan;
     }
 
-    private JsonNode getJson(HttpClient client, URI uri, int requestTimeoutMs) {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .timeout(Duration.ofMillis(requestTimeoutMs))
-                .GET()
-                .build();
+    private JsonNode getJson(HttpClient client, HttpRequest request) {
         HttpResponse<String> response;
         try {
             response = client.send(request, HttpResponse.BodyHandlers.ofString());
@@ -0,0 +1,63 @@
+package io.pockethive.hivewatch.service.actuator;
+
+import io.pockethive.hivewatch.service.scans.ScanHttpClients;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+// The four actuator requests of one target, compiled once per target configuration so a scan does no URL
+// parsing or validation. A configuration that does not validate compiles to its error.
+record ActuatorScanPlan(
+        Source source,
+        HttpClient client,
+        HttpRequest health,
+        HttpRequest info,
+        HttpRequest cpu,
+        HttpRequest memory,
+        String error
+) {
+    static ActuatorScanPlan compile(ActuatorTargetEntity target) {
+        Source source = Source.of(target);
+        Duration timeout = Duration.ofMillis(target.getRequestTimeoutMs());
+        try {
+            return new ActuatorScanPlan(
+                    source,
+                    ScanHttpClients.forConnectTimeout(target.getConnectTimeoutMs()),
+                    get(target, "/actuator/health", timeout),
+                    get(target, "/actuator/info", timeout),
+                    get(target, "/actuator/metrics/system.cpu.usage", timeout),
+                    get(target, "/actuator/metrics/jvm.memory.used", timeout),
+                    null
+            );
+        } catch (IllegalArgumentException e) {
+            return new ActuatorScanPlan(source, null, null, null, null, null, e.getMessage());
+        }
+    }
+
+    boolean compiledFrom(ActuatorTargetEntity target) {
+        return source.equals(Source.of(target));
+    }
+
+    private static HttpRequest get(ActuatorTargetEntity target, String suffixPath, Duration timeout) {
+        URI uri = ActuatorTargetValidation.endpointUri(target.getBaseUrl(), target.getPort(), target.getProfile(), suffixPath);
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(timeout)
+                .GET()
+                .build();
+    }
+
+    // The target fields a plan depends on; an update to any of them recompiles the plan.
+    record Source(String baseUrl, int port, String profile, int connectTimeoutMs, int requestTimeoutMs) {
+        static Source of(ActuatorTargetEntity target) {
+            return new Source(
+                    target.getBaseUrl(),
+                    target.getPort(),
+                    target.getProfile(),
+                    target.getConnectTimeoutMs(),
+                    target.getRequestTimeoutMs()
+            );
+        }
+    }
+}
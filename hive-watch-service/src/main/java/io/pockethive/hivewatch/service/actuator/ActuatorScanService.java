@@ -1,15 +1,25 @@
 package io.pockethive.hivewatch.service.actuator;
 
 import io.pockethive.hivewatch.service.api.ActuatorTargetDto;
+import io.pockethive.hivewatch.service.api.TomcatScanErrorKind;
+import io.pockethive.hivewatch.service.decision.DecisionEngine;
 import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
 import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
+import io.pockethive.hivewatch.service.observations.Observation;
+import io.pockethive.hivewatch.service.observations.ObservationBus;
+import io.pockethive.hivewatch.service.observations.ObservationSource;
+import io.pockethive.hivewatch.service.scans.ScanStateWriter;
+import io.pockethive.hivewatch.service.state.ScanOutcome;
+import io.pockethive.hivewatch.service.state.ScanStateChangedEvent;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -20,20 +30,32 @@ public class ActuatorScanService {
     private final ActuatorTargetRepository actuatorTargetRepository;
     private final ActuatorTargetScanStateRepository actuatorTargetScanStateRepository;
     private final ActuatorClient actuatorClient;
+    private final DecisionEngine decisionEngine;
+    private final ScanStateWriter scanStateWriter;
+    private final ObservationBus observationBus;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ActuatorScanService(
             ServerRepository serverRepository,
             ActuatorTargetRepository actuatorTargetRepository,
             ActuatorTargetScanStateRepository actuatorTargetScanStateRepository,
-            ActuatorClient actuatorClient
+            ActuatorClient actuatorClient,
+            DecisionEngine decisionEngine,
+            ScanStateWriter scanStateWriter,
+            ObservationBus observationBus,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.serverRepository = serverRepository;
         this.actuatorTargetRepository = actuatorTargetRepository;
         this.actuatorTargetScanStateRepository = actuatorTargetScanStateRepository;
         this.actuatorClient = actuatorClient;
+        this.decisionEngine = decisionEngine;
+        this.scanStateWriter = scanStateWriter;
+        this.observationBus = observationBus;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Transactional
+    // Not transactional: the HTTP fetch must not hold a DB connection; each state save commits on its own.
     public List<ActuatorTargetDto> scanEnvironment(UUID environmentId) {
         List<ServerEntity> servers = serverRepository.findByEnvironmentId(environmentId);
         if (servers.isEmpty()) {
@@ -46,8 +68,9 @@ public class ActuatorScanService {
                 servers.stream().map(ServerEntity::getId).toList()
         );
         for (ActuatorTargetEntity target : targets) {
-            scanInternal(target);
+            scan(target);
         }
+        eventPublisher.publishEvent(new ScanStateChangedEvent(environmentId));
 
         Map<UUID, ActuatorTargetScanStateEntity> states = actuatorTargetScanStateRepository
                 .findAllById(targets.stream().map(ActuatorTargetEntity::getId).toList())
@@ -57,21 +80,27 @@ public class ActuatorScanService {
         return targets.stream().map(t -> ActuatorTargetService.toDto(t, serverById.get(t.getServerId()), states.get(t.getId()))).toList();
     }
 
-    @Transactional
     public ActuatorTargetDto scanTarget(UUID targetId) {
         ActuatorTargetEntity target = actuatorTargetRepository.findById(targetId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Actuator target not found"));
 
-        scanInternal(target);
+        scan(target);
 
         ActuatorTargetScanStateEntity state = actuatorTargetScanStateRepository.findById(targetId).orElse(null);
         ServerEntity server = serverRepository.findById(target.getServerId()).orElse(null);
+        if (server != null) {
+            eventPublisher.publishEvent(new ScanStateChangedEvent(server.getEnvironmentId()));
+        }
         return ActuatorTargetService.toDto(target, server, state);
     }
 
-    private void scanInternal(ActuatorTargetEntity target) {
+    public ScanOutcome scan(ActuatorTargetEntity target) {
         Instant now = Instant.now();
         ActuatorClient.ActuatorFetchResult result = actuatorClient.fetch(target);
+        if (Thread.currentThread().isInterrupted()) {
+            // Cancelled by the scan deadline; the canceller records the TIMEOUT state.
+            return ScanOutcome.TIMEOUT;
+        }
         ActuatorTargetScanStateEntity state = result.ok()
                 ? ActuatorTargetService.successState(
                         target.getId(),
@@ -83,6 +112,30 @@ public class ActuatorScanService {
                         result.memoryUsedBytes()
                 )
                 : ActuatorTargetService.errorState(target.getId(), now, result.errorKind(), result.errorMessage());
-        actuatorTargetScanStateRepository.save(state);
+        scanStateWriter.upsert(state);
+        decisionEngine.recordSample(target.getId(), now, !result.ok(), result.cpuUsage(), result.memoryUsedBytes());
+        observationBus.publish(new Observation(
+                ObservationSource.ACTUATOR,
+                target.getId(),
+                now,
+                result.errorKind(),
+                result.cpuUsage(),
+                result.memoryUsedBytes()
+        ));
+        return new ScanOutcome(
+                result.ok() && "UP".equalsIgnoreCase(result.healthStatus()),
+                Objects.hash(result.errorKind(), result.healthStatus(), result.appName(), result.buildVersion())
+        );
+    }
+
+    public void retainPlans(Set<UUID> targetIds) {
+        actuatorClient.retainPlans(targetIds);
+    }
+
+    public void recordTimeout(ActuatorTargetEntity target, String message) {
+        Instant now = Instant.now();
+        scanStateWriter.upsert(ActuatorTargetService.errorState(target.getId(), now, TomcatScanErrorKind.TIMEOUT, message));
+        decisionEngine.recordSample(target.getId(), now, true, null, null);
+        observationBus.publish(new Observation(ObservationSource.ACTUATOR, target.getId(), now, TomcatScanErrorKind.TIMEOUT, null, null));
     }
 }
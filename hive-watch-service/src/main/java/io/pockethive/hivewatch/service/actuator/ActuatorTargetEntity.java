@@ -1,6 +1,7 @@
 package io.pockethive.hivewatch.service.actuator;
 
 import io.pockethive.hivewatch.service.api.TomcatRole;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,9 +10,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "hw_actuator_targets")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "hw-actuator-targets")
 public class ActuatorTargetEntity {
     @Id
     private UUID id;
@@ -1,12 +1,16 @@
 package io.pockethive.hivewatch.service.actuator;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ActuatorTargetRepository extends JpaRepository<ActuatorTargetEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ActuatorTargetEntity> findByServerIdIn(List<UUID> serverIds);
 
     Page<ActuatorTargetEntity> findByServerId(UUID serverId, Pageable pageable);
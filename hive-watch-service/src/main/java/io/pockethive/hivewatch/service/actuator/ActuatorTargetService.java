@@ -6,14 +6,17 @@ import io.pockethive.hivewatch.service.api.ActuatorTargetStateDto;
 import io.pockethive.hivewatch.service.api.ActuatorTargetUpdateRequestDto;
 import io.pockethive.hivewatch.service.api.TomcatScanErrorKind;
 import io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind;
+import io.pockethive.hivewatch.service.decision.DecisionEngine;
 import io.pockethive.hivewatch.service.environments.EnvironmentRepository;
 import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
 import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -27,17 +30,23 @@ public class ActuatorTargetService {
     private final ServerRepository serverRepository;
     private final ActuatorTargetRepository actuatorTargetRepository;
     private final ActuatorTargetScanStateRepository actuatorTargetScanStateRepository;
+    private final DecisionEngine decisionEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ActuatorTargetService(
             EnvironmentRepository environmentRepository,
             ServerRepository serverRepository,
             ActuatorTargetRepository actuatorTargetRepository,
-            ActuatorTargetScanStateRepository actuatorTargetScanStateRepository
+            ActuatorTargetScanStateRepository actuatorTargetScanStateRepository,
+            DecisionEngine decisionEngine,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.environmentRepository = environmentRepository;
         this.serverRepository = serverRepository;
         this.actuatorTargetRepository = actuatorTargetRepository;
         this.actuatorTargetScanStateRepository = actuatorTargetScanStateRepository;
+        this.decisionEngine = decisionEngine;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -109,6 +118,7 @@ public class ActuatorTargetService {
                 request.requestTimeoutMs(),
                 Instant.now()
         ));
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return toDto(created, server, null);
     }
 
@@ -143,7 +153,9 @@ public class ActuatorTargetService {
                 existing.getCreatedAt()
         ));
         actuatorTargetScanStateRepository.deleteById(updated.getId());
+        decisionEngine.forgetTarget(updated.getId());
 
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return toDto(updated, server, null);
     }
 
@@ -158,6 +170,8 @@ public class ActuatorTargetService {
             throw new ResponseStatusException(NOT_FOUND, "Actuator target not found");
         }
         actuatorTargetRepository.deleteById(targetId);
+        decisionEngine.forgetTarget(targetId);
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
     }
 
     private void requireEnvironment(UUID environmentId) {
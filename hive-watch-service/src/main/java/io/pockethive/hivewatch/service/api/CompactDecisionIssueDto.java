@@ -0,0 +1,17 @@
+package io.pockethive.hivewatch.service.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompactDecisionIssueDto(
+        @JsonProperty("s") int severity,
+        @JsonProperty("k") int kind,
+        @JsonProperty("tg") UUID targetId,
+        @JsonProperty("sv") String serverName,
+        @JsonProperty("r") Integer role,
+        @JsonProperty("l") String label,
+        @JsonProperty("m") String message
+) {
+}
@@ -0,0 +1,10 @@
+package io.pockethive.hivewatch.service.api;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record CompactEnvironmentStatusBatchDto(
+        @JsonProperty("t") long evaluatedAtMs,
+        @JsonProperty("e") List<CompactEnvironmentStatusBatchItemDto> items
+) {
+}
@@ -0,0 +1,18 @@
+package io.pockethive.hivewatch.service.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompactEnvironmentStatusBatchItemDto(
+        @JsonProperty("ref") String ref,
+        @JsonProperty("id") UUID environmentId,
+        @JsonProperty("n") String environmentName,
+        @JsonProperty("v") Integer verdict,
+        @JsonProperty("c") int issueCount,
+        @JsonProperty("i") List<CompactDecisionIssueDto> issues,
+        @JsonProperty("err") String error
+) {
+}
@@ -0,0 +1,16 @@
+package io.pockethive.hivewatch.service.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompactEnvironmentStatusDto(
+        @JsonProperty("id") UUID environmentId,
+        @JsonProperty("n") String environmentName,
+        @JsonProperty("v") int verdict,
+        @JsonProperty("t") long evaluatedAtMs,
+        @JsonProperty("i") List<CompactDecisionIssueDto> issues
+) {
+}
@@ -0,0 +1,8 @@
+package io.pockethive.hivewatch.service.api;
+
+public enum DecisionAggregation {
+    LATEST,
+    MEAN,
+    MAX,
+    P95
+}
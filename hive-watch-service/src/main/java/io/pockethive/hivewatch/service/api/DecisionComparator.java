@@ -0,0 +1,8 @@
+package io.pockethive.hivewatch.service.api;
+
+public enum DecisionComparator {
+    GT,
+    GTE,
+    LT,
+    LTE
+}
@@ -0,0 +1,9 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.util.List;
+
+public record DecisionEvaluateRequestDto(
+        List<DecisionRuleDto> rules,
+        Integer maxIssues
+) {
+}
@@ -0,0 +1,19 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record DecisionEvaluateResultDto(
+        String sutId,
+        UUID environmentId,
+        String rulesHash,
+        Instant evaluatedAt,
+        Instant observedAt,
+        DecisionVerdict verdict,
+        int blockIssues,
+        int warnIssues,
+        int unknownIssues,
+        List<DecisionIssueDto> issues
+) {
+}
@@ -0,0 +1,6 @@
+package io.pockethive.hivewatch.service.api;
+
+public enum DecisionMetric {
+    CPU_USAGE,
+    MEMORY_USED_BYTES
+}
@@ -0,0 +1,11 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.time.Instant;
+import java.util.List;
+
+public record DecisionPolicyDto(
+        long version,
+        Instant updatedAt,
+        List<DecisionRuleDto> rules
+) {
+}
@@ -0,0 +1,8 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.util.List;
+
+public record DecisionPolicyReplaceRequestDto(
+        List<DecisionRuleDto> rules
+) {
+}
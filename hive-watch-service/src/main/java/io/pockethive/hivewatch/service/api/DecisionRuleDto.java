@@ -0,0 +1,12 @@
+package io.pockethive.hivewatch.service.api;
+
+public record DecisionRuleDto(
+        DecisionMetric metric,
+        DecisionAggregation aggregation,
+        DecisionComparator comparator,
+        double threshold,
+        DecisionVerdict severity,
+        DecisionRuleScope scope,
+        String scopeValue
+) {
+}
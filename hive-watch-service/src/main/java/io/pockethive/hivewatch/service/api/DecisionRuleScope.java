@@ -0,0 +1,9 @@
+package io.pockethive.hivewatch.service.api;
+
+public enum DecisionRuleScope {
+    GLOBAL,
+    ENVIRONMENT,
+    SERVER,
+    ROLE,
+    PROFILE
+}
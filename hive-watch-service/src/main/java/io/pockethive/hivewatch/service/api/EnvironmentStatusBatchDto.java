@@ -0,0 +1,10 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.time.Instant;
+import java.util.List;
+
+public record EnvironmentStatusBatchDto(
+        Instant evaluatedAt,
+        List<EnvironmentStatusBatchItemDto> items
+) {
+}
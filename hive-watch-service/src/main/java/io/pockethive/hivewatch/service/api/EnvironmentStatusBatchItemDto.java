@@ -0,0 +1,15 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.util.List;
+import java.util.UUID;
+
+public record EnvironmentStatusBatchItemDto(
+        String ref,
+        UUID environmentId,
+        String environmentName,
+        DecisionVerdict verdict,
+        int issueCount,
+        List<DecisionIssueDto> issues,
+        String error
+) {
+}
@@ -0,0 +1,11 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.util.List;
+import java.util.UUID;
+
+public record EnvironmentStatusBatchRequestDto(
+        List<UUID> environmentIds,
+        List<String> sutIds,
+        Integer maxIssues
+) {
+}
@@ -0,0 +1,15 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ScanCadenceDto(
+        UUID targetId,
+        Instant lastScanAt,
+        Instant nextDueAt,
+        long intervalMs,
+        ScanCadenceReason reason,
+        ScanDemandLevel demand,
+        int scansSinceChange
+) {
+}
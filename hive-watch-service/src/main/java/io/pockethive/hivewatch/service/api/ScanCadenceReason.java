@@ -0,0 +1,10 @@
+package io.pockethive.hivewatch.service.api;
+
+public enum ScanCadenceReason {
+    NEW,
+    UNHEALTHY,
+    RECENTLY_CHANGED,
+    OK,
+    STABLE,
+    FIXED
+}
@@ -0,0 +1,8 @@
+package io.pockethive.hivewatch.service.api;
+
+public enum ScanDemandLevel {
+    BURST,
+    HOT,
+    WARM,
+    IDLE
+}
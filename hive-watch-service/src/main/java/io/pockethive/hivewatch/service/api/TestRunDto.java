@@ -0,0 +1,14 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record TestRunDto(
+        UUID id,
+        UUID environmentId,
+        String label,
+        TestRunStatus status,
+        Instant startedAt,
+        Instant expiresAt
+) {
+}
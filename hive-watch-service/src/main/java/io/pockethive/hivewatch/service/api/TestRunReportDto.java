@@ -0,0 +1,24 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public record TestRunReportDto(
+        UUID id,
+        UUID environmentId,
+        String label,
+        TestRunStatus status,
+        Instant startedAt,
+        Instant endedAt,
+        DecisionVerdict finalVerdict,
+        DecisionVerdict worstVerdict,
+        Map<DecisionVerdict, Long> verdictDurationsMs,
+        Double peakCpuUsage,
+        Long peakMemoryUsedBytes,
+        long evaluations,
+        boolean timelineTruncated,
+        List<TestRunTimelineEntryDto> timeline
+) {
+}
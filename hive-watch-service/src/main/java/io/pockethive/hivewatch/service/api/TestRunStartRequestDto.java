@@ -0,0 +1,7 @@
+package io.pockethive.hivewatch.service.api;
+
+public record TestRunStartRequestDto(
+        String label,
+        Long maxDurationMs
+) {
+}
@@ -0,0 +1,7 @@
+package io.pockethive.hivewatch.service.api;
+
+public enum TestRunStatus {
+    OPEN,
+    CLOSED,
+    EXPIRED
+}
@@ -0,0 +1,16 @@
+package io.pockethive.hivewatch.service.api;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TestRunTimelineEntryDto(
+        Instant at,
+        DecisionVerdict verdict,
+        int blockIssues,
+        int warnIssues,
+        int unknownIssues,
+        List<DecisionIssueDto> issues,
+        Double maxCpuUsage,
+        Long maxMemoryUsedBytes
+) {
+}
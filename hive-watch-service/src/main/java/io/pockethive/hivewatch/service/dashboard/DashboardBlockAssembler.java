@@ -0,0 +1,410 @@
+package io.pockethive.hivewatch.service.dashboard;
+
+import io.pockethive.hivewatch.service.api.DashboardCellDto;
+import io.pockethive.hivewatch.service.api.DashboardCellKind;
+import io.pockethive.hivewatch.service.api.DashboardColumnDto;
+import io.pockethive.hivewatch.service.api.DashboardEnvironmentBlockDto;
+import io.pockethive.hivewatch.service.api.DashboardEnvironmentSummaryDto;
+import io.pockethive.hivewatch.service.api.DashboardGroupStatus;
+import io.pockethive.hivewatch.service.api.DashboardGroupSummaryDto;
+import io.pockethive.hivewatch.service.api.DashboardRowDto;
+import io.pockethive.hivewatch.service.api.DashboardRowStatus;
+import io.pockethive.hivewatch.service.api.DashboardSectionDto;
+import io.pockethive.hivewatch.service.api.DashboardSectionKind;
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.api.TomcatWebappDto;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.ActuatorStateRow;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.ActuatorTargetRow;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.TomcatStateRow;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.TomcatTargetRow;
+import io.pockethive.hivewatch.service.decision.DecisionEngine;
+import io.pockethive.hivewatch.service.decision.DecisionEvaluation;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.expectedsets.EncodedSet;
+import io.pockethive.hivewatch.service.expectedsets.ExpectedSetDictionary;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DashboardBlockAssembler {
+    private static final List<TomcatRoleColumn> TOMCAT_COLUMN_ORDER = List.of(
+            new TomcatRoleColumn(TomcatRole.SERVICES, "SERVICES", "Services"),
+            new TomcatRoleColumn(TomcatRole.AUTH, "AUTH", "Auth"),
+            new TomcatRoleColumn(TomcatRole.PAYMENTS, "PAYMENTS", "Payments")
+    );
+
+    private static final Set<String> BUILT_IN_WEBAPPS = Set.of("/", "/manager", "/host-manager", "/docs", "/examples");
+
+    private final DecisionEngine decisionEngine;
+    private final ExpectedSetDictionary expectedSetDictionary;
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+
+    public DashboardBlockAssembler(
+            DecisionEngine decisionEngine,
+            ExpectedSetDictionary expectedSetDictionary,
+            DashboardProperties properties
+    ) {
+        this.decisionEngine = decisionEngine;
+        this.expectedSetDictionary = expectedSetDictionary;
+        this.parallelThreshold = properties.parallelAssemblyThreshold();
+        this.pool = properties.assemblyParallelism() > 1 ? new ForkJoinPool(properties.assemblyParallelism()) : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    public List<DashboardEnvironmentBlockDto> assemble(
+            List<EnvironmentEntity> environments,
+            Map<UUID, List<TomcatTargetRow>> tomcatTargetsByEnv,
+            Map<UUID, List<ActuatorTargetRow>> actuatorTargetsByEnv,
+            Instant now
+    ) {
+        Function<EnvironmentEntity, DashboardEnvironmentBlockDto> assembleOne = env -> assembleBlock(
+                env,
+                tomcatTargetsByEnv.getOrDefault(env.getId(), List.of()),
+                actuatorTargetsByEnv.getOrDefault(env.getId(), List.of()),
+                now
+        );
+        if (pool == null || environments.size() < parallelThreshold) {
+            return environments.stream().map(assembleOne).toList();
+        }
+        // Parallel streams keep encounter order on toList(), so blocks stay in the caller's order.
+        return pool.submit(() -> environments.parallelStream().map(assembleOne).toList()).join();
+    }
+
+    private DashboardEnvironmentBlockDto assembleBlock(
+            EnvironmentEntity env,
+            List<TomcatTargetRow> envTomcats,
+            List<ActuatorTargetRow> envActuators,
+            Instant now
+    ) {
+        DashboardGroupSummaryDto tomcatsSummary = computeTomcatsGroupSummary(envTomcats);
+        DashboardGroupSummaryDto dockerSummary = computeDockerGroupSummary(envActuators);
+        DashboardGroupSummaryDto awsSummary = new DashboardGroupSummaryDto(DashboardGroupStatus.UNKNOWN, 0, null);
+
+        DecisionEvaluation decision = decisionEngine.evaluate(
+                env.getId(),
+                envTomcats.stream().map(TomcatTargetRow::observation).toList(),
+                envActuators.stream().map(ActuatorTargetRow::observation).toList()
+        );
+        DashboardEnvironmentSummaryDto summary = new DashboardEnvironmentSummaryDto(
+                tomcatsSummary,
+                dockerSummary,
+                awsSummary,
+                decision.verdict(),
+                decision.blockIssues(),
+                decision.warnIssues(),
+                decision.unknownIssues(),
+                now
+        );
+
+        List<DashboardSectionDto> sections = new ArrayList<>();
+        sections.add(computeTomcatsSection(envTomcats));
+        sections.add(computeDockerSection(env.getId(), envActuators));
+        sections.add(new DashboardSectionDto(DashboardSectionKind.AWS, "AWS (placeholder)", List.of(), List.of()));
+
+        return new DashboardEnvironmentBlockDto(env.getId(), env.getName(), summary, sections);
+    }
+
+    private static DashboardGroupSummaryDto computeTomcatsGroupSummary(List<TomcatTargetRow> targets) {
+        if (targets.isEmpty()) {
+            return new DashboardGroupSummaryDto(DashboardGroupStatus.UNKNOWN, 0, null);
+        }
+
+        boolean hasError = false;
+        boolean hasUnknown = false;
+        Instant lastScanAt = null;
+
+        for (TomcatTargetRow t : targets) {
+            TomcatStateRow st = t.state();
+            if (st == null) {
+                hasUnknown = true;
+                continue;
+            }
+            if (lastScanAt == null || st.scannedAt().isAfter(lastScanAt)) {
+                lastScanAt = st.scannedAt();
+            }
+            if (st.outcomeKind() != io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind.SUCCESS) {
+                hasError = true;
+            }
+        }
+
+        DashboardGroupStatus status = hasError ? DashboardGroupStatus.BLOCK : (hasUnknown ? DashboardGroupStatus.UNKNOWN : DashboardGroupStatus.OK);
+        return new DashboardGroupSummaryDto(status, targets.size(), lastScanAt);
+    }
+
+    private static DashboardGroupSummaryDto computeDockerGroupSummary(List<ActuatorTargetRow> targets) {
+        if (targets.isEmpty()) {
+            return new DashboardGroupSummaryDto(DashboardGroupStatus.UNKNOWN, 0, null);
+        }
+
+        boolean hasError = false;
+        boolean hasUnknown = false;
+        Instant lastScanAt = null;
+
+        for (ActuatorTargetRow t : targets) {
+            ActuatorStateRow st = t.state();
+            if (st == null) {
+                hasUnknown = true;
+                continue;
+            }
+            if (lastScanAt == null || st.scannedAt().isAfter(lastScanAt)) {
+                lastScanAt = st.scannedAt();
+            }
+            if (st.outcomeKind() != io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind.SUCCESS) {
+                hasError = true;
+                continue;
+            }
+            String hs = st.healthStatus();
+            if (!"UP".equalsIgnoreCase((hs == null ? "" : hs).trim())) {
+                hasError = true;
+            }
+        }
+
+        DashboardGroupStatus status = hasError ? DashboardGroupStatus.BLOCK : (hasUnknown ? DashboardGroupStatus.UNKNOWN : DashboardGroupStatus.OK);
+        return new DashboardGroupSummaryDto(status, targets.size(), lastScanAt);
+    }
+
+    private DashboardSectionDto computeTomcatsSection(List<TomcatTargetRow> envTargets) {
+        Map<UUID, List<TomcatTargetRow>> targetsByServerId = new HashMap<>();
+        for (TomcatTargetRow t : envTargets) {
+            targetsByServerId.computeIfAbsent(t.serverId(), ignored -> new ArrayList<>()).add(t);
+        }
+
+        List<DashboardColumnDto> columns = new ArrayList<>();
+        for (TomcatRoleColumn c : TOMCAT_COLUMN_ORDER) {
+            columns.add(new DashboardColumnDto(c.key(), c.label()));
+        }
+        columns.add(new DashboardColumnDto("TOMCAT", "Tomcat"));
+        columns.add(new DashboardColumnDto("JAVA", "Java"));
+        columns.add(new DashboardColumnDto("OS", "OS"));
+
+        List<DashboardRowDto> rows = new ArrayList<>();
+        for (Map.Entry<UUID, List<TomcatTargetRow>> e : targetsByServerId.entrySet()) {
+            UUID serverId = e.getKey();
+            List<TomcatTargetRow> targets = e.getValue();
+            String serverName = targets.get(0).serverName();
+
+            Map<TomcatRole, TomcatTargetRow> byRole = new HashMap<>();
+            for (TomcatTargetRow t : targets) {
+                byRole.put(t.role(), t);
+            }
+
+            List<DashboardCellDto> cells = new ArrayList<>();
+            for (TomcatRoleColumn c : TOMCAT_COLUMN_ORDER) {
+                TomcatTargetRow t = byRole.get(c.role());
+                if (t == null) {
+                    cells.add(new DashboardCellDto(DashboardCellKind.ERROR, null, "Missing target: " + c.role().name()));
+                    continue;
+                }
+                DashboardCellDto cell = tomcatRoleCell(c.role(), t.state(), t.expectedPaths());
+                cells.add(cell);
+            }
+
+            DashboardCellDto tomcatVersion = uniformStringCell(
+                    TOMCAT_COLUMN_ORDER.stream()
+                            .map(c -> byRole.get(c.role()))
+                            .map(t -> t == null ? null : t.state())
+                            .map(st -> st == null ? null : st.tomcatVersion())
+                            .toList()
+            );
+            DashboardCellDto javaVersion = uniformStringCell(
+                    TOMCAT_COLUMN_ORDER.stream()
+                            .map(c -> byRole.get(c.role()))
+                            .map(t -> t == null ? null : t.state())
+                            .map(st -> st == null ? null : st.javaVersion())
+                            .toList()
+            );
+            DashboardCellDto os = uniformStringCell(
+                    TOMCAT_COLUMN_ORDER.stream()
+                            .map(c -> byRole.get(c.role()))
+                            .map(t -> t == null ? null : t.state())
+                            .map(st -> st == null ? null : st.os())
+                            .toList()
+            );
+            cells.add(tomcatVersion);
+            cells.add(javaVersion);
+            cells.add(os);
+
+            DashboardRowStatus status = computeRowStatus(cells);
+            rows.add(new DashboardRowDto(serverId, serverName, null, List.copyOf(cells), status));
+        }
+
+        rows.sort(Comparator.comparing(DashboardRowDto::label));
+        return new DashboardSectionDto(DashboardSectionKind.TOMCATS, "Tomcats", List.copyOf(columns), List.copyOf(rows));
+    }
+
+    private DashboardSectionDto computeDockerSection(UUID environmentId, List<ActuatorTargetRow> envTargets) {
+        if (envTargets.isEmpty()) {
+            return new DashboardSectionDto(DashboardSectionKind.DOCKER, "Docker Swarm", List.of(), List.of());
+        }
+
+        Map<UUID, List<ActuatorTargetRow>> targetsByServerId = new HashMap<>();
+        Set<String> profiles = new HashSet<>();
+        for (ActuatorTargetRow t : envTargets) {
+            targetsByServerId.computeIfAbsent(t.serverId(), ignored -> new ArrayList<>()).add(t);
+            profiles.add(t.profile());
+            profiles.addAll(t.expectedProfiles().values());
+        }
+
+        List<String> profileOrder = new ArrayList<>(profiles);
+        List<String> defaultOrder = List.of("payments", "services", "auth");
+        profileOrder.sort((a, b) -> {
+            int ai = defaultOrder.indexOf(a);
+            int bi = defaultOrder.indexOf(b);
+            if (ai != -1 || bi != -1) return (ai == -1 ? 999 : ai) - (bi == -1 ? 999 : bi);
+            return a.compareToIgnoreCase(b);
+        });
+
+        List<DashboardColumnDto> columns = profileOrder.stream()
+                .map(p -> new DashboardColumnDto(p, p))
+                .toList();
+
+        List<DashboardRowDto> rows = new ArrayList<>();
+        for (Map.Entry<UUID, List<ActuatorTargetRow>> e : targetsByServerId.entrySet()) {
+            UUID serverId = e.getKey();
+            List<ActuatorTargetRow> targets = e.getValue();
+            String serverName = targets.get(0).serverName();
+
+            Map<String, ActuatorTargetRow> byProfile = new HashMap<>();
+            for (ActuatorTargetRow t : targets) {
+                byProfile.put(t.profile(), t);
+            }
+
+            List<DashboardCellDto> cells = new ArrayList<>();
+            EncodedSet expectedProfiles = targets.get(0).expectedProfiles();
+            for (String profile : profileOrder) {
+                ActuatorTargetRow t = byProfile.get(profile);
+                if (t == null) {
+                    if (expectedProfiles.contains(profile)) {
+                        cells.add(new DashboardCellDto(DashboardCellKind.ERROR, null, "Missing expected service: " + profile));
+                    } else {
+                        cells.add(new DashboardCellDto(DashboardCellKind.UNKNOWN, null, null));
+                    }
+                    continue;
+                }
+                cells.add(dockerServiceCell(profile, t.state()));
+            }
+
+            DashboardRowStatus status = computeRowStatus(cells);
+            String link = "/dashboard/docker/" + environmentId + "/" + serverId;
+            rows.add(new DashboardRowDto(serverId, serverName, link, List.copyOf(cells), status));
+        }
+
+        rows.sort(Comparator.comparing(DashboardRowDto::label));
+        return new DashboardSectionDto(DashboardSectionKind.DOCKER, "Docker Swarm", columns, List.copyOf(rows));
+    }
+
+    private static DashboardRowStatus computeRowStatus(List<DashboardCellDto> cells) {
+        if (cells.stream().anyMatch(c -> c.kind() == DashboardCellKind.ERROR)) return DashboardRowStatus.BLOCK;
+        if (cells.stream().anyMatch(c -> c.kind() == DashboardCellKind.UNKNOWN)) return DashboardRowStatus.UNKNOWN;
+        return DashboardRowStatus.OK;
+    }
+
+    private DashboardCellDto tomcatRoleCell(TomcatRole role, TomcatStateRow st, EncodedSet expectedPaths) {
+        if (st == null) {
+            if (!expectedPaths.isEmpty()) {
+                String title = "Missing expected webapps: " + String.join(", ", expectedPaths.values().stream().limit(6).toList());
+                return new DashboardCellDto(DashboardCellKind.ERROR, null, role.name() + " mismatch: " + title);
+            }
+            return new DashboardCellDto(DashboardCellKind.UNKNOWN, null, null);
+        }
+        if (st.outcomeKind() != io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind.SUCCESS) {
+            String title = role.name() + " error: " + (st.errorKind() == null ? "UNKNOWN" : st.errorKind().name())
+                    + ": " + (st.errorMessage() == null ? "Request failed" : st.errorMessage());
+            return new DashboardCellDto(DashboardCellKind.ERROR, null, title);
+        }
+
+        List<TomcatWebappDto> relevant = st.webapps().stream()
+                .filter(w -> !BUILT_IN_WEBAPPS.contains(w.path()))
+                .toList();
+
+        if (!expectedPaths.isEmpty()) {
+            // Observed paths are keyed by the content-addressed webapp set, so both the encoding and the diff are
+            // reused until either the deployed webapps or the expected-set config change.
+            EncodedSet presentPaths = expectedSetDictionary.observed(st.webappSetHash(), () -> relevant.stream()
+                    .map(w -> w.path() == null ? "" : w.path().trim())
+                    .filter(p -> !p.isEmpty())
+                    .toList());
+            List<String> missingExpected = expectedSetDictionary.diff(expectedPaths, presentPaths).missing();
+            if (!missingExpected.isEmpty()) {
+                String title = "Missing expected webapps: " + String.join(", ", missingExpected.stream().limit(6).toList());
+                return new DashboardCellDto(DashboardCellKind.ERROR, null, role.name() + " mismatch: " + title);
+            }
+        }
+
+        if (relevant.isEmpty()) {
+            return new DashboardCellDto(DashboardCellKind.UNKNOWN, null, null);
+        }
+
+        Set<String> versions = new HashSet<>();
+        List<String> missing = new ArrayList<>();
+        for (TomcatWebappDto w : relevant) {
+            String v = w.version();
+            if (v == null || v.trim().isEmpty()) {
+                missing.add(w.name());
+                continue;
+            }
+            versions.add(v.trim());
+        }
+
+        if (!missing.isEmpty()) {
+            String title = "Missing webapp versions: " + String.join(", ", missing.stream().limit(6).toList());
+            return new DashboardCellDto(DashboardCellKind.ERROR, null, role.name() + " mismatch: " + title);
+        }
+        if (versions.size() == 1) {
+            return new DashboardCellDto(DashboardCellKind.VALUE, versions.iterator().next(), null);
+        }
+        String title = "Multiple webapp versions: " + String.join(", ", versions);
+        return new DashboardCellDto(DashboardCellKind.ERROR, null, role.name() + " mismatch: " + title);
+    }
+
+    private static DashboardCellDto dockerServiceCell(String profile, ActuatorStateRow st) {
+        if (st == null) {
+            return new DashboardCellDto(DashboardCellKind.UNKNOWN, null, null);
+        }
+        if (st.outcomeKind() != io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind.SUCCESS) {
+            String title = profile + " error: " + (st.errorKind() == null ? "UNKNOWN" : st.errorKind().name())
+                    + ": " + (st.errorMessage() == null ? "Request failed" : st.errorMessage());
+            return new DashboardCellDto(DashboardCellKind.ERROR, null, title);
+        }
+        if (!"UP".equalsIgnoreCase((st.healthStatus() == null ? "" : st.healthStatus()).trim())) {
+            return new DashboardCellDto(DashboardCellKind.ERROR, null, profile + " is " + (st.healthStatus() == null ? "UNKNOWN" : st.healthStatus()));
+        }
+        String version = st.buildVersion();
+        if (version == null || version.trim().isEmpty()) {
+            return new DashboardCellDto(DashboardCellKind.UNKNOWN, null, st.appName());
+        }
+        return new DashboardCellDto(DashboardCellKind.VALUE, version.trim(), st.appName());
+    }
+
+    private static DashboardCellDto uniformStringCell(List<String> values) {
+        List<String> present = values.stream()
+                .map(v -> v == null ? "" : v.trim())
+                .filter(v -> !v.isEmpty())
+                .toList();
+        if (present.isEmpty()) return new DashboardCellDto(DashboardCellKind.UNKNOWN, null, null);
+        Set<String> uniq = new HashSet<>(present);
+        if (uniq.size() == 1) return new DashboardCellDto(DashboardCellKind.VALUE, present.get(0), null);
+        return new DashboardCellDto(DashboardCellKind.ERROR, null, "Multiple values: " + String.join(" · ", uniq));
+    }
+
+    private record TomcatRoleColumn(TomcatRole role, String key, String label) {
+    }
+}
@@ -1,22 +1,47 @@
 package io.pockethive.hivewatch.service.dashboard;
 
-import io.pockethive.hivewatch.service.api.DashboardDto;
 import io.pockethive.hivewatch.service.api.DashboardEnvironmentDto;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class DashboardController {
+    private static final byte[] DASHBOARD_PREFIX = "{\"environments\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DASHBOARD_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMMA = ",".getBytes(StandardCharsets.UTF_8);
+
     private final DashboardQueryService dashboardQueryService;
 
     public DashboardController(DashboardQueryService dashboardQueryService) {
         this.dashboardQueryService = dashboardQueryService;
     }
 
-    @GetMapping("/api/v1/dashboard")
-    public DashboardDto dashboard() {
-        return dashboardQueryService.getDashboard();
+    @GetMapping(value = "/api/v1/dashboard", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void dashboard(HttpServletResponse response) throws IOException {
+        List<byte[]> blocks = dashboardQueryService.getDashboardBlockFragments();
+
+        int length = DASHBOARD_PREFIX.length + DASHBOARD_SUFFIX.length + Math.max(0, blocks.size() - 1) * COMMA.length;
+        for (byte[] b : blocks) {
+            length += b.length;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(length);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(DASHBOARD_PREFIX);
+        for (int i = 0; i < blocks.size(); i++) {
+            if (i > 0) {
+                out.write(COMMA);
+            }
+            out.write(blocks.get(i));
+        }
+        out.write(DASHBOARD_SUFFIX);
     }
 
     @GetMapping("/api/v1/dashboard/environments")
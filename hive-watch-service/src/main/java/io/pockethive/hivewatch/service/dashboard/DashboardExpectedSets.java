@@ -0,0 +1,119 @@
+package io.pockethive.hivewatch.service.dashboard;
+
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.expectedsets.EncodedSet;
+import io.pockethive.hivewatch.service.expectedsets.ExpectedSetDictionary;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceEntity;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecEntity;
+import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecEntity;
+import io.pockethive.hivewatch.service.tomcat.expected.TomcatExpectedWebappEntity;
+import io.pockethive.hivewatch.service.topology.EnvironmentTopology;
+import io.pockethive.hivewatch.service.topology.TopologySnapshot;
+import io.pockethive.hivewatch.service.topology.TopologySnapshots;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// Expected webapp paths and service profiles per server, encoded once per topology snapshot version. Servers sharing
+// a template share one EncodedSet, so their diffs against the same observed set are computed once.
+@Component
+public class DashboardExpectedSets {
+    private final TopologySnapshots topologySnapshots;
+    private final ExpectedSetDictionary dictionary;
+    private volatile Encoded encoded;
+
+    public DashboardExpectedSets(TopologySnapshots topologySnapshots, ExpectedSetDictionary dictionary) {
+        this.topologySnapshots = topologySnapshots;
+        this.dictionary = dictionary;
+    }
+
+    public EnvironmentSets forEnvironment(UUID environmentId) {
+        Encoded current = current();
+        return current.environments().computeIfAbsent(environmentId, id -> encode(current, id));
+    }
+
+    private Encoded current() {
+        TopologySnapshot snapshot = topologySnapshots.current();
+        Encoded current = encoded;
+        if (current != null && current.snapshot().version() == snapshot.version()) {
+            return current;
+        }
+        Map<UUID, EncodedSet> templates = new HashMap<>();
+        snapshot.templateItems().forEach((templateId, items) -> templates.put(templateId, dictionary.encode(items)));
+        Encoded next = new Encoded(snapshot, Map.copyOf(templates), new ConcurrentHashMap<>());
+        encoded = next;
+        return next;
+    }
+
+    private EnvironmentSets encode(Encoded current, UUID environmentId) {
+        EncodedSet none = dictionary.encode(List.of());
+        EnvironmentTopology topology = current.snapshot().environment(environmentId).orElse(null);
+        if (topology == null) {
+            return new EnvironmentSets(Map.of(), Map.of(), none);
+        }
+
+        Map<TomcatKey, List<String>> explicitPaths = new HashMap<>();
+        for (TomcatExpectedWebappEntity e : topology.tomcatExpectedWebapps()) {
+            explicitPaths.computeIfAbsent(new TomcatKey(e.getServerId(), e.getRole()), ignored -> new ArrayList<>())
+                    .add(e.getPath());
+        }
+        Map<TomcatKey, EncodedSet> tomcat = new HashMap<>();
+        for (TomcatExpectedWebappSpecEntity spec : topology.tomcatExpectedWebappSpecs()) {
+            TomcatKey key = new TomcatKey(spec.getServerId(), spec.getRole());
+            EncodedSet set = switch (spec.getMode()) {
+                case EXPLICIT -> dictionary.encode(explicitPaths.getOrDefault(key, List.of()));
+                case TEMPLATE -> template(current, spec.getTemplateId(), none);
+                case UNCONFIGURED -> null;
+            };
+            if (set != null) {
+                tomcat.put(key, set);
+            }
+        }
+
+        Map<UUID, List<String>> explicitProfiles = new HashMap<>();
+        for (DockerExpectedServiceEntity e : topology.dockerExpectedServices()) {
+            explicitProfiles.computeIfAbsent(e.getServerId(), ignored -> new ArrayList<>()).add(e.getProfile());
+        }
+        Map<UUID, EncodedSet> docker = new HashMap<>();
+        for (DockerExpectedServiceSpecEntity spec : topology.dockerExpectedServiceSpecs()) {
+            EncodedSet set = switch (spec.getMode()) {
+                case EXPLICIT -> dictionary.encode(explicitProfiles.getOrDefault(spec.getServerId(), List.of()));
+                case TEMPLATE -> template(current, spec.getTemplateId(), none);
+                case UNCONFIGURED -> null;
+            };
+            if (set != null) {
+                docker.put(spec.getServerId(), set);
+            }
+        }
+        return new EnvironmentSets(Map.copyOf(tomcat), Map.copyOf(docker), none);
+    }
+
+    // A template spec whose template was deleted (template_id is set null) or has no items yet expects nothing.
+    private static EncodedSet template(Encoded current, UUID templateId, EncodedSet none) {
+        return templateId == null ? none : current.templates().getOrDefault(templateId, none);
+    }
+
+    public record EnvironmentSets(
+            Map<TomcatKey, EncodedSet> tomcat,
+            Map<UUID, EncodedSet> docker,
+            EncodedSet none
+    ) {
+        public EncodedSet tomcat(UUID serverId, TomcatRole role) {
+            return tomcat.getOrDefault(new TomcatKey(serverId, role), none);
+        }
+
+        public EncodedSet docker(UUID serverId) {
+            return docker.getOrDefault(serverId, none);
+        }
+    }
+
+    public record TomcatKey(UUID serverId, TomcatRole role) {
+    }
+
+    private record Encoded(TopologySnapshot snapshot, Map<UUID, EncodedSet> templates, Map<UUID, EnvironmentSets> environments) {
+    }
+}
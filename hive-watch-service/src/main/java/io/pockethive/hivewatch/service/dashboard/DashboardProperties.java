@@ -0,0 +1,10 @@
+package io.pockethive.hivewatch.service.dashboard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.dashboard")
+public record DashboardProperties(
+        int assemblyParallelism,
+        int parallelAssemblyThreshold
+) {
+}
@@ -0,0 +1,238 @@
+package io.pockethive.hivewatch.service.dashboard;
+
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.api.TomcatScanErrorKind;
+import io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind;
+import io.pockethive.hivewatch.service.api.TomcatWebappDto;
+import io.pockethive.hivewatch.service.decision.DecisionInputs;
+import io.pockethive.hivewatch.service.expectedsets.EncodedSet;
+import io.pockethive.hivewatch.service.tomcat.TomcatWebappSets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DashboardReadRepository {
+    private static final String TOMCAT_TARGETS_SQL = """
+            select s.environment_id, s.id as server_id, s.name as server_name,
+                   t.id as target_id, t.role, t.base_url, t.port,
+                   st.scanned_at, st.outcome_kind, st.error_kind, st.error_message,
+                   st.tomcat_version, st.java_version, st.os, st.webapp_set_hash
+            from hw_servers s
+            join hw_tomcat_targets t on t.server_id = s.id
+            left join hw_tomcat_target_scan_state st on st.target_id = t.id
+            where s.environment_id in (:environmentIds)
+            """;
+
+    private static final String ACTUATOR_TARGETS_SQL = """
+            select s.environment_id, s.id as server_id, s.name as server_name,
+                   t.id as target_id, t.role, t.base_url, t.port, t.profile,
+                   st.scanned_at, st.outcome_kind, st.error_kind, st.error_message,
+                   st.health_status, st.app_name, st.build_version, st.cpu_usage, st.memory_used_bytes
+            from hw_servers s
+            join hw_actuator_targets t on t.server_id = s.id
+            left join hw_actuator_target_scan_state st on st.target_id = t.id
+            where s.environment_id in (:environmentIds)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TomcatWebappSets webappSets;
+    private final DashboardExpectedSets expectedSets;
+
+    public DashboardReadRepository(
+            NamedParameterJdbcTemplate jdbc,
+            TomcatWebappSets webappSets,
+            DashboardExpectedSets expectedSets
+    ) {
+        this.jdbc = jdbc;
+        this.webappSets = webappSets;
+        this.expectedSets = expectedSets;
+    }
+
+    public List<TomcatTargetRow> findTomcatTargets(Collection<UUID> environmentIds) {
+        if (environmentIds.isEmpty()) {
+            return List.of();
+        }
+        // Rows carry set hashes; the distinct sets are resolved in one batch afterwards.
+        Map<UUID, String> setHashes = new HashMap<>();
+        List<TomcatTargetRow> rows = jdbc.query(TOMCAT_TARGETS_SQL, Map.of("environmentIds", environmentIds), (rs, rowNum) -> {
+            TomcatStateRow state = rs.getObject("scanned_at") == null ? null : new TomcatStateRow(
+                    instant(rs, "scanned_at"),
+                    TomcatScanOutcomeKind.valueOf(rs.getString("outcome_kind")),
+                    errorKind(rs),
+                    rs.getString("error_message"),
+                    rs.getString("tomcat_version"),
+                    rs.getString("java_version"),
+                    rs.getString("os"),
+                    rs.getString("webapp_set_hash"),
+                    List.of()
+            );
+            if (state != null) {
+                setHashes.put(rs.getObject("target_id", UUID.class), state.webappSetHash());
+            }
+            UUID environmentId = rs.getObject("environment_id", UUID.class);
+            UUID serverId = rs.getObject("server_id", UUID.class);
+            TomcatRole role = TomcatRole.valueOf(rs.getString("role"));
+            return new TomcatTargetRow(
+                    environmentId,
+                    serverId,
+                    rs.getString("server_name"),
+                    rs.getObject("target_id", UUID.class),
+                    role,
+                    rs.getString("base_url"),
+                    rs.getInt("port"),
+                    expectedSets.forEnvironment(environmentId).tomcat(serverId, role),
+                    state
+            );
+        });
+        if (setHashes.isEmpty()) {
+            return rows;
+        }
+        Map<String, List<TomcatWebappDto>> sets = webappSets.resolve(setHashes.values());
+        return rows.stream().map(row -> {
+            String hash = setHashes.get(row.targetId());
+            return hash == null ? row : row.withWebapps(sets.getOrDefault(hash, List.of()));
+        }).toList();
+    }
+
+    public List<ActuatorTargetRow> findActuatorTargets(Collection<UUID> environmentIds) {
+        if (environmentIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbc.query(ACTUATOR_TARGETS_SQL, Map.of("environmentIds", environmentIds), (rs, rowNum) -> {
+            ActuatorStateRow state = rs.getObject("scanned_at") == null ? null : new ActuatorStateRow(
+                    instant(rs, "scanned_at"),
+                    TomcatScanOutcomeKind.valueOf(rs.getString("outcome_kind")),
+                    errorKind(rs),
+                    rs.getString("error_message"),
+                    rs.getString("health_status"),
+                    rs.getString("app_name"),
+                    rs.getString("build_version"),
+                    rs.getObject("cpu_usage", Double.class),
+                    rs.getObject("memory_used_bytes", Long.class)
+            );
+            UUID environmentId = rs.getObject("environment_id", UUID.class);
+            UUID serverId = rs.getObject("server_id", UUID.class);
+            return new ActuatorTargetRow(
+                    environmentId,
+                    serverId,
+                    rs.getString("server_name"),
+                    rs.getObject("target_id", UUID.class),
+                    TomcatRole.valueOf(rs.getString("role")),
+                    rs.getString("base_url"),
+                    rs.getInt("port"),
+                    rs.getString("profile"),
+                    expectedSets.forEnvironment(environmentId).docker(serverId),
+                    state
+            );
+        });
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+
+    private static TomcatScanErrorKind errorKind(ResultSet rs) throws SQLException {
+        String value = rs.getString("error_kind");
+        return value == null ? null : TomcatScanErrorKind.valueOf(value);
+    }
+
+    public record TomcatTargetRow(
+            UUID environmentId,
+            UUID serverId,
+            String serverName,
+            UUID targetId,
+            TomcatRole role,
+            String baseUrl,
+            int port,
+            EncodedSet expectedPaths,
+            TomcatStateRow state
+    ) {
+        TomcatTargetRow withWebapps(List<TomcatWebappDto> webapps) {
+            return new TomcatTargetRow(environmentId, serverId, serverName, targetId, role, baseUrl, port, expectedPaths,
+                    new TomcatStateRow(state.scannedAt(), state.outcomeKind(), state.errorKind(), state.errorMessage(),
+                            state.tomcatVersion(), state.javaVersion(), state.os(), state.webappSetHash(), webapps));
+        }
+
+        public DecisionInputs.TomcatTargetObservation observation() {
+            return new DecisionInputs.TomcatTargetObservation(
+                    targetId,
+                    serverName,
+                    role,
+                    baseUrl,
+                    port,
+                    state == null ? null : state.scannedAt(),
+                    state == null ? null : state.outcomeKind(),
+                    state == null ? null : state.errorKind(),
+                    state == null ? null : state.errorMessage()
+            );
+        }
+    }
+
+    public record TomcatStateRow(
+            Instant scannedAt,
+            TomcatScanOutcomeKind outcomeKind,
+            TomcatScanErrorKind errorKind,
+            String errorMessage,
+            String tomcatVersion,
+            String javaVersion,
+            String os,
+            String webappSetHash,
+            List<TomcatWebappDto> webapps
+    ) {
+    }
+
+    public record ActuatorTargetRow(
+            UUID environmentId,
+            UUID serverId,
+            String serverName,
+            UUID targetId,
+            TomcatRole role,
+            String baseUrl,
+            int port,
+            String profile,
+            EncodedSet expectedProfiles,
+            ActuatorStateRow state
+    ) {
+        public DecisionInputs.ActuatorTargetObservation observation() {
+            return new DecisionInputs.ActuatorTargetObservation(
+                    targetId,
+                    serverName,
+                    role,
+                    baseUrl,
+                    port,
+                    profile,
+                    state == null ? null : state.scannedAt(),
+                    state == null ? null : state.outcomeKind(),
+                    state == null ? null : state.errorKind(),
+                    state == null ? null : state.errorMessage(),
+                    state == null ? null : state.healthStatus(),
+                    state == null ? null : state.appName(),
+                    state == null ? null : state.cpuUsage(),
+                    state == null ? null : state.memoryUsedBytes()
+            );
+        }
+    }
+
+    public record ActuatorStateRow(
+            Instant scannedAt,
+            TomcatScanOutcomeKind outcomeKind,
+            TomcatScanErrorKind errorKind,
+            String errorMessage,
+            String healthStatus,
+            String appName,
+            String buildVersion,
+            Double cpuUsage,
+            Long memoryUsedBytes
+    ) {
+    }
+}
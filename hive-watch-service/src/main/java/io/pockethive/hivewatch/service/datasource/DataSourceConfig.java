@@ -0,0 +1,64 @@
+package io.pockethive.hivewatch.service.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// Only active with a replica configured; otherwise Boot's single auto-configured pool is used unchanged.
+@Configuration
+@ConditionalOnProperty(prefix = "hivewatch.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(autowireCandidate = false)
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("hw-replica");
+        replica.setJdbcUrl(properties.url());
+        replica.setUsername(properties.username());
+        replica.setPassword(properties.password());
+        replica.setMaximumPoolSize(properties.maxPoolSize());
+        replica.setConnectionTimeout(properties.connectionTimeoutMs());
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return replica;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    ReplicationLagGuard replicationLagGuard(ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicationLagGuard(
+                replicaDataSource(properties, meterRegistry), properties.maxLagMs(), properties.lagCheckMs(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            ReplicaDataSourceProperties properties,
+            ReplicationLagGuard replicationLagGuard,
+            MeterRegistry meterRegistry
+    ) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicationLagGuard);
+        DataSource primary = primaryDataSource(dataSourceProperties);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primary,
+                ReadWriteRoutingDataSource.REPLICA, replicaDataSource(properties, meterRegistry)
+        ));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,40 @@
+package io.pockethive.hivewatch.service.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Read-only transactions pinned to the primary. Revision-keyed caches rebuild through here: a revision is bumped as
+// soon as the primary commits, and a replica that has not replayed that commit yet would get its old state cached
+// under the new revision until the next bump.
+@Component
+public class PrimaryReads {
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private final TransactionTemplate readOnly;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        // A fresh transaction, so the connection is fetched (and routed) while the marker is set.
+        this.readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T call(Supplier<T> work) {
+        Boolean outer = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return readOnly.execute(status -> work.get());
+        } finally {
+            if (outer == null) {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    static boolean active() {
+        return ACTIVE.get() != null;
+    }
+}
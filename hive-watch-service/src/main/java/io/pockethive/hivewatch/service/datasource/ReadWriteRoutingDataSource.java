@@ -0,0 +1,28 @@
+package io.pockethive.hivewatch.service.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Read-only transactions go to the replica while the lag guard trusts it; everything else, including
+// work outside a transaction and PrimaryReads, goes to the primary. Must sit behind a LazyConnectionDataSourceProxy so the
+// connection is only fetched once the transaction's read-only flag is known.
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReplicationLagGuard lagGuard;
+
+    ReadWriteRoutingDataSource(ReplicationLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !PrimaryReads.active()
+                && lagGuard.replicaUsable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,31 @@
+package io.pockethive.hivewatch.service.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        int maxPoolSize,
+        long connectionTimeoutMs,
+        long maxLagMs,
+        long lagCheckMs
+) {
+    public ReplicaDataSourceProperties {
+        if (enabled && (url == null || url.isBlank())) {
+            throw new IllegalArgumentException("hivewatch.datasource.replica.url is required when the replica is enabled");
+        }
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("hivewatch.datasource.replica.max-pool-size must be >= 1");
+        }
+        // Hikari rejects connection timeouts below 250 ms.
+        if (connectionTimeoutMs < 250) {
+            throw new IllegalArgumentException("hivewatch.datasource.replica.connection-timeout-ms must be >= 250");
+        }
+        if (maxLagMs < 0 || lagCheckMs < 1) {
+            throw new IllegalArgumentException("hivewatch.datasource.replica lag settings must satisfy max-lag-ms >= 0, lag-check-ms >= 1");
+        }
+    }
+}
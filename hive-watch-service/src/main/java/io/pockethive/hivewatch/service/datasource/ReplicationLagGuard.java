@@ -0,0 +1,112 @@
+package io.pockethive.hivewatch.service.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Measures replay lag on the replica. A replica that has replayed everything it received reports zero lag
+// even on an idle primary; one that is behind, unreachable or not in recovery is not used for reads. Checks run on
+// a thread of their own, so a scan cycle holding a scheduler thread cannot leave a lagging replica in use.
+class ReplicationLagGuard {
+    private static final Logger log = LoggerFactory.getLogger(ReplicationLagGuard.class);
+
+    private static final String LAG_SQL = """
+            select case
+                     when not pg_is_in_recovery() then null
+                     when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                     else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   end
+            """;
+
+    private final DataSource replica;
+    private final long maxLagMs;
+    private final long checkMs;
+    private ScheduledExecutorService checker;
+    private volatile boolean replicaUsable;
+    private volatile double lagMs = Double.NaN;
+
+    ReplicationLagGuard(DataSource replica, long maxLagMs, long checkMs, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+        this.checkMs = checkMs;
+        Gauge.builder("hivewatch.datasource.replica.lag", this, g -> g.lagMs / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("hivewatch.datasource.replica.usable", this, g -> g.replicaUsable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    boolean replicaUsable() {
+        return replicaUsable;
+    }
+
+    synchronized void start() {
+        if (checker != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hw-replica-lag");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(this::checkSafely, 0, checkMs, TimeUnit.MILLISECONDS);
+        checker = executor;
+    }
+
+    synchronized void stop() {
+        if (checker != null) {
+            checker.shutdownNow();
+            checker = null;
+        }
+    }
+
+    // An exception escaping a fixed-delay task would cancel every later check and freeze the last verdict.
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            replicaUsable = false;
+            log.warn("Replica lag check failed; routing read-only transactions to the primary: {}", e.getMessage());
+        }
+    }
+
+    void check() {
+        double measured;
+        String reason = null;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            measured = rs.getDouble(1);
+            if (rs.wasNull()) {
+                measured = Double.NaN;
+                reason = "replica is not in recovery";
+            }
+        } catch (SQLException e) {
+            measured = Double.NaN;
+            reason = e.getMessage();
+        }
+        if (reason == null && measured > maxLagMs) {
+            reason = "lag " + Math.round(measured) + " ms exceeds " + maxLagMs + " ms";
+        }
+        lagMs = measured;
+        boolean usable = reason == null;
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Read replica is caught up; routing read-only transactions to it again");
+            } else {
+                log.warn("Routing read-only transactions to the primary: {}", reason);
+            }
+            replicaUsable = usable;
+        }
+    }
+}
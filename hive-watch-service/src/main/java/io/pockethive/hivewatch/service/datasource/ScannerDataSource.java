@@ -0,0 +1,46 @@
+package io.pockethive.hivewatch.service.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Scan persistence gets its own pool against the primary, so a burst of scan writes queues here instead of
+// taking connections from API requests. Deliberately not a DataSource bean: Boot's pool stays the only one
+// that JPA, Flyway and the API see. Metered as hikaricp.* with pool=hw-scanner.
+@Component
+public class ScannerDataSource {
+    private final HikariDataSource pool;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ScannerDataSource(
+            DataSourceProperties dataSourceProperties,
+            ScannerPoolProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName("hw-scanner");
+        ds.setJdbcUrl(dataSourceProperties.determineUrl());
+        ds.setUsername(dataSourceProperties.determineUsername());
+        ds.setPassword(dataSourceProperties.determinePassword());
+        ds.setMaximumPoolSize(properties.maxPoolSize());
+        ds.setMinimumIdle(Math.min(2, properties.maxPoolSize()));
+        ds.setConnectionTimeout(properties.connectionTimeoutMs());
+        ds.setConnectionInitSql("set statement_timeout = " + properties.statementTimeoutMs());
+        ds.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        this.pool = ds;
+        this.jdbc = new NamedParameterJdbcTemplate(ds);
+    }
+
+    public NamedParameterJdbcTemplate jdbc() {
+        return jdbc;
+    }
+
+    @PreDestroy
+    void close() {
+        pool.close();
+    }
+}
@@ -0,0 +1,20 @@
+package io.pockethive.hivewatch.service.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.datasource.scanner")
+public record ScannerPoolProperties(
+        int maxPoolSize,
+        long connectionTimeoutMs,
+        long statementTimeoutMs
+) {
+    public ScannerPoolProperties {
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("hivewatch.datasource.scanner.max-pool-size must be >= 1");
+        }
+        // Hikari rejects connection timeouts below 250 ms.
+        if (connectionTimeoutMs < 250 || statementTimeoutMs < 1) {
+            throw new IllegalArgumentException("hivewatch.datasource.scanner timeouts must satisfy connection-timeout-ms >= 250, statement-timeout-ms >= 1");
+        }
+    }
+}
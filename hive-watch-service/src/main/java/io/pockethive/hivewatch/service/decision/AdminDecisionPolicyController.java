@@ -0,0 +1,27 @@
+package io.pockethive.hivewatch.service.decision;
+
+import io.pockethive.hivewatch.service.api.DecisionPolicyDto;
+import io.pockethive.hivewatch.service.api.DecisionPolicyReplaceRequestDto;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class AdminDecisionPolicyController {
+    private final DecisionPolicyService decisionPolicyService;
+
+    public AdminDecisionPolicyController(DecisionPolicyService decisionPolicyService) {
+        this.decisionPolicyService = decisionPolicyService;
+    }
+
+    @GetMapping("/api/v1/admin/decision-policy")
+    public DecisionPolicyDto get() {
+        return decisionPolicyService.getPolicy();
+    }
+
+    @PutMapping("/api/v1/admin/decision-policy")
+    public DecisionPolicyDto replace(@RequestBody DecisionPolicyReplaceRequestDto request) {
+        return decisionPolicyService.replacePolicy(request);
+    }
+}
@@ -0,0 +1,206 @@
+package io.pockethive.hivewatch.service.decision;
+
+import io.pockethive.hivewatch.service.api.DecisionMetric;
+import io.pockethive.hivewatch.service.api.DecisionRuleDto;
+import io.pockethive.hivewatch.service.api.DecisionRuleScope;
+import io.pockethive.hivewatch.service.api.DecisionVerdict;
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class CompiledDecisionPolicy {
+    static final int SEVERITY_NONE = 0;
+    static final int SEVERITY_WARN = 1;
+    static final int SEVERITY_BLOCK = 2;
+
+    // Matched bits are laid out as (metric * 4 + aggregation), see SampleWindow.
+    static final int METRIC_CPU = 1 << (SampleWindow.CPU * 4 + SampleWindow.LATEST);
+    static final int METRIC_MEMORY = 1 << (SampleWindow.MEMORY * 4 + SampleWindow.LATEST);
+
+    private static final int CMP_GT = 0;
+    private static final int CMP_GTE = 1;
+    private static final int CMP_LT = 2;
+    private static final int CMP_LTE = 3;
+
+    private static final int SCOPE_ANY = 0;
+    private static final int SCOPE_SERVER = 1;
+    private static final int SCOPE_ROLE = 2;
+    private static final int SCOPE_PROFILE = 3;
+
+    private final int size;
+    private final int[] metric;
+    private final int[] aggregation;
+    private final int[] comparator;
+    private final double[] threshold;
+    private final int[] severity;
+    private final int[] scope;
+    private final String[] scopeName;
+    private final int[] scopeRole;
+
+    private CompiledDecisionPolicy(List<DecisionRuleDto> rules) {
+        this.size = rules.size();
+        this.metric = new int[size];
+        this.aggregation = new int[size];
+        this.comparator = new int[size];
+        this.threshold = new double[size];
+        this.severity = new int[size];
+        this.scope = new int[size];
+        this.scopeName = new String[size];
+        this.scopeRole = new int[size];
+        for (int i = 0; i < size; i++) {
+            DecisionRuleDto r = rules.get(i);
+            metric[i] = r.metric() == DecisionMetric.CPU_USAGE ? SampleWindow.CPU : SampleWindow.MEMORY;
+            aggregation[i] = r.aggregation() == null ? SampleWindow.LATEST : switch (r.aggregation()) {
+                case LATEST -> SampleWindow.LATEST;
+                case MEAN -> SampleWindow.MEAN;
+                case MAX -> SampleWindow.MAX;
+                case P95 -> SampleWindow.P95;
+            };
+            comparator[i] = switch (r.comparator()) {
+                case GT -> CMP_GT;
+                case GTE -> CMP_GTE;
+                case LT -> CMP_LT;
+                case LTE -> CMP_LTE;
+            };
+            threshold[i] = r.threshold();
+            severity[i] = r.severity() == DecisionVerdict.BLOCK ? SEVERITY_BLOCK : SEVERITY_WARN;
+            switch (r.scope()) {
+                case GLOBAL, ENVIRONMENT -> scope[i] = SCOPE_ANY;
+                case SERVER -> {
+                    scope[i] = SCOPE_SERVER;
+                    scopeName[i] = r.scopeValue().trim();
+                }
+                case ROLE -> {
+                    scope[i] = SCOPE_ROLE;
+                    scopeRole[i] = TomcatRole.valueOf(r.scopeValue().trim()).ordinal();
+                }
+                case PROFILE -> {
+                    scope[i] = SCOPE_PROFILE;
+                    scopeName[i] = r.scopeValue().trim();
+                }
+            }
+        }
+    }
+
+    // Environment-scoped rules for other environments are dropped here, so evaluation never sees them.
+    public static CompiledDecisionPolicy compile(List<DecisionRuleDto> rules, UUID environmentId) {
+        List<DecisionRuleDto> applicable = new ArrayList<>();
+        for (DecisionRuleDto r : rules) {
+            validate(r);
+            if (r.scope() == DecisionRuleScope.ENVIRONMENT
+                    && (environmentId == null || !UUID.fromString(r.scopeValue().trim()).equals(environmentId))) {
+                continue;
+            }
+            applicable.add(r);
+        }
+        return new CompiledDecisionPolicy(applicable);
+    }
+
+    public static void validate(DecisionRuleDto rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("rule is required");
+        }
+        if (rule.metric() == null) {
+            throw new IllegalArgumentException("metric is required");
+        }
+        if (rule.comparator() == null) {
+            throw new IllegalArgumentException("comparator is required");
+        }
+        if (!Double.isFinite(rule.threshold())) {
+            throw new IllegalArgumentException("threshold must be a finite number");
+        }
+        if (rule.severity() != DecisionVerdict.WARN && rule.severity() != DecisionVerdict.BLOCK) {
+            throw new IllegalArgumentException("severity must be WARN or BLOCK");
+        }
+        if (rule.scope() == null) {
+            throw new IllegalArgumentException("scope is required");
+        }
+        if (rule.scope() == DecisionRuleScope.GLOBAL) {
+            return;
+        }
+        String value = rule.scopeValue() == null ? "" : rule.scopeValue().trim();
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("scopeValue is required for scope " + rule.scope());
+        }
+        if (rule.scope() == DecisionRuleScope.ENVIRONMENT) {
+            try {
+                UUID.fromString(value);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("scopeValue must be an environment id: " + value);
+            }
+        }
+        if (rule.scope() == DecisionRuleScope.ROLE) {
+            try {
+                TomcatRole.valueOf(value);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("scopeValue must be a role: " + value);
+            }
+        }
+    }
+
+    // Packs (worst severity << 8) | matched metric bits so the hot path stays allocation-free.
+    int match(String serverName, TomcatRole role, String profile, Double cpuUsage, Long memoryUsedBytes) {
+        return match(serverName, role, profile, cpuUsage, memoryUsedBytes, SampleWindow.Snapshot.EMPTY);
+    }
+
+    // Windowed rules read pre-aggregated values; without history they fall back to the latest sample.
+    int match(
+            String serverName,
+            TomcatRole role,
+            String profile,
+            Double cpuUsage,
+            Long memoryUsedBytes,
+            SampleWindow.Snapshot window
+    ) {
+        int worst = SEVERITY_NONE;
+        int matched = 0;
+        for (int i = 0; i < size; i++) {
+            if (!scopeMatches(i, serverName, role, profile)) {
+                continue;
+            }
+            int agg = aggregation[i];
+            double value = agg == SampleWindow.LATEST ? Double.NaN : window.value(metric[i], agg);
+            if (Double.isNaN(value)) {
+                agg = SampleWindow.LATEST;
+                if (metric[i] == SampleWindow.CPU) {
+                    if (cpuUsage == null) {
+                        continue;
+                    }
+                    value = cpuUsage;
+                } else {
+                    if (memoryUsedBytes == null) {
+                        continue;
+                    }
+                    value = memoryUsedBytes;
+                }
+            }
+            if (!compare(comparator[i], value, threshold[i])) {
+                continue;
+            }
+            matched |= 1 << (metric[i] * 4 + agg);
+            if (severity[i] > worst) {
+                worst = severity[i];
+            }
+        }
+        return (worst << 8) | matched;
+    }
+
+    private boolean scopeMatches(int i, String serverName, TomcatRole role, String profile) {
+        return switch (scope[i]) {
+            case SCOPE_SERVER -> scopeName[i].equals(serverName);
+            case SCOPE_ROLE -> role != null && role.ordinal() == scopeRole[i];
+            case SCOPE_PROFILE -> scopeName[i].equals(profile);
+            default -> true;
+        };
+    }
+
+    private static boolean compare(int comparator, double value, double threshold) {
+        return switch (comparator) {
+            case CMP_GT -> value > threshold;
+            case CMP_GTE -> value >= threshold;
+            case CMP_LT -> value < threshold;
+            default -> value <= threshold;
+        };
+    }
+}
@@ -1,25 +1,140 @@
 package io.pockethive.hivewatch.service.decision;
 
+import io.pockethive.hivewatch.service.api.DecisionAggregation;
+import io.pockethive.hivewatch.service.api.DecisionComparator;
 import io.pockethive.hivewatch.service.api.DecisionIssueDto;
 import io.pockethive.hivewatch.service.api.DecisionIssueKind;
+import io.pockethive.hivewatch.service.api.DecisionMetric;
+import io.pockethive.hivewatch.service.api.DecisionRuleDto;
+import io.pockethive.hivewatch.service.api.DecisionRuleScope;
 import io.pockethive.hivewatch.service.api.DecisionVerdict;
 import io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind;
+import io.pockethive.hivewatch.service.scans.ScanCadence;
+import io.pockethive.hivewatch.service.scans.ScanLeaseProperties;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+// Sample windows live in memory on the node that scans a target. With scan leases enabled they are also persisted,
+// and a node whose window is behind an observation (another node scanned it since) rebuilds it from there.
 @Service
 public class DecisionEngine {
-    private static final double CPU_WARN = 0.75;
-    private static final double CPU_BLOCK = 0.90;
-    private static final long MEMORY_WARN_BYTES = 900L * 1024L * 1024L;
-    private static final long MEMORY_BLOCK_BYTES = 1500L * 1024L * 1024L;
+    private static final Logger log = LoggerFactory.getLogger(DecisionEngine.class);
+
+    static final List<DecisionRuleDto> DEFAULT_RULES = List.of(
+            new DecisionRuleDto(DecisionMetric.CPU_USAGE, DecisionAggregation.LATEST, DecisionComparator.GTE, 0.75, DecisionVerdict.WARN, DecisionRuleScope.GLOBAL, null),
+            new DecisionRuleDto(DecisionMetric.CPU_USAGE, DecisionAggregation.LATEST, DecisionComparator.GTE, 0.90, DecisionVerdict.BLOCK, DecisionRuleScope.GLOBAL, null),
+            new DecisionRuleDto(DecisionMetric.MEMORY_USED_BYTES, DecisionAggregation.LATEST, DecisionComparator.GTE, 900.0 * 1024 * 1024, DecisionVerdict.WARN, DecisionRuleScope.GLOBAL, null),
+            new DecisionRuleDto(DecisionMetric.MEMORY_USED_BYTES, DecisionAggregation.LATEST, DecisionComparator.GTE, 1500.0 * 1024 * 1024, DecisionVerdict.BLOCK, DecisionRuleScope.GLOBAL, null)
+    );
+
+    private static final String[] AGGREGATION_SUFFIX = {"", ".mean", ".max", ".p95"};
+
+    private final DecisionProperties properties;
+    private final ScanCadence scanCadence;
+    private final DecisionSampleRepository decisionSampleRepository;
+    private final boolean sharedSamples;
+    private final Map<UUID, SampleWindow> windows = new ConcurrentHashMap<>();
+    private final StalenessDeadlines stalenessDeadlines = new StalenessDeadlines();
+    private volatile InstalledPolicy installed = InstalledPolicy.of(0, DEFAULT_RULES);
+
+    public DecisionEngine(
+            DecisionProperties properties,
+            ScanCadence scanCadence,
+            DecisionSampleRepository decisionSampleRepository,
+            ScanLeaseProperties scanLeaseProperties
+    ) {
+        this.properties = properties;
+        this.scanCadence = scanCadence;
+        this.decisionSampleRepository = decisionSampleRepository;
+        this.sharedSamples = scanLeaseProperties.enabled();
+    }
+
+    public void recordSample(UUID targetId, Instant scannedAt, boolean failed, Double cpuUsage, Long memoryUsedBytes) {
+        windows.computeIfAbsent(targetId, id -> newWindow())
+                .push(scannedAt, failed, cpuUsage, memoryUsedBytes);
+        if (sharedSamples) {
+            try {
+                decisionSampleRepository.append(targetId, scannedAt, failed, cpuUsage, memoryUsedBytes, historySize());
+            } catch (DataAccessException e) {
+                log.warn("Failed to persist decision sample for targetId={}: {}", targetId, e.getMessage());
+            }
+        }
+    }
+
+    public void forgetTarget(UUID targetId) {
+        windows.remove(targetId);
+        if (sharedSamples) {
+            decisionSampleRepository.delete(targetId);
+        }
+    }
+
+    public List<UUID> drainStaleEnvironments(Instant now) {
+        return stalenessDeadlines.drainDue(now);
+    }
+
+    public void installPolicy(long version, List<DecisionRuleDto> rules) {
+        installed = InstalledPolicy.of(version, rules);
+    }
+
+    public long policyVersion() {
+        return installed.version();
+    }
+
+    public List<DecisionRuleDto> policyRules() {
+        return installed.rules();
+    }
+
+    public DecisionEvaluation evaluate(
+            List<DecisionInputs.TomcatTargetObservation> tomcats,
+            List<DecisionInputs.ActuatorTargetObservation> actuators
+    ) {
+        return evaluate(installed.global(), tomcats, actuators);
+    }
 
     public DecisionEvaluation evaluate(
+            UUID environmentId,
             List<DecisionInputs.TomcatTargetObservation> tomcats,
             List<DecisionInputs.ActuatorTargetObservation> actuators
     ) {
+        DecisionEvaluation evaluation = evaluate(installed.forEnvironment(environmentId), tomcats, actuators);
+        if (environmentId != null && evaluation.staleAt() != null) {
+            stalenessDeadlines.schedule(environmentId, evaluation.staleAt());
+        }
+        return evaluation;
+    }
+
+    public DecisionEvaluation evaluate(
+            CompiledDecisionPolicy policy,
+            List<DecisionInputs.TomcatTargetObservation> tomcats,
+            List<DecisionInputs.ActuatorTargetObservation> actuators
+    ) {
+        return evaluate(policy, tomcats, actuators, Instant.now());
+    }
+
+    public DecisionEvaluation evaluate(
+            CompiledDecisionPolicy policy,
+            List<DecisionInputs.TomcatTargetObservation> tomcats,
+            List<DecisionInputs.ActuatorTargetObservation> actuators,
+            Instant now
+    ) {
+        if (sharedSamples) {
+            catchUpWindows(tomcats, actuators);
+        }
         List<DecisionIssueDto> issues = new ArrayList<>();
+        Instant staleAt = null;
 
         for (DecisionInputs.TomcatTargetObservation t : tomcats) {
             if (t.scannedAt() == null || t.outcomeKind() == null) {
@@ -34,15 +149,41 @@ public class DecisionEngine {
                 ));
                 continue;
             }
+            Duration interval = expectedScanInterval(t.targetId(), t.scannedAt(), now);
+            if (!t.scannedAt().plus(properties.staleUnknownAfter(interval)).isAfter(now)) {
+                issues.add(new DecisionIssueDto(
+                        DecisionVerdict.UNKNOWN,
+                        DecisionIssueKind.TOMCAT_TARGET,
+                        t.targetId(),
+                        t.serverName(),
+                        t.role(),
+                        "Tomcat " + t.role().name().toLowerCase(),
+                        staleMessage(t.scannedAt(), now)
+                ));
+                continue;
+            }
+            staleAt = earliest(staleAt, nextStaleAt(t.scannedAt(), interval, now));
+            if (!t.scannedAt().plus(properties.staleWarnAfter(interval)).isAfter(now)) {
+                issues.add(new DecisionIssueDto(
+                        DecisionVerdict.WARN,
+                        DecisionIssueKind.TOMCAT_TARGET,
+                        t.targetId(),
+                        t.serverName(),
+                        t.role(),
+                        "Tomcat " + t.role().name().toLowerCase(),
+                        staleMessage(t.scannedAt(), now)
+                ));
+            }
             if (t.outcomeKind() == TomcatScanOutcomeKind.ERROR) {
                 issues.add(new DecisionIssueDto(
-                        DecisionVerdict.BLOCK,
+                        errorSeverity(t.targetId()),
                         DecisionIssueKind.TOMCAT_TARGET,
                         t.targetId(),
                         t.serverName(),
                         t.role(),
                         "Tomcat " + t.role().name().toLowerCase(),
                         (t.errorKind() == null ? "ERROR" : t.errorKind().name()) + ": " + (t.errorMessage() == null ? "Unknown error" : t.errorMessage())
+                                + recentFailures(t.targetId())
                 ));
             }
         }
@@ -60,63 +201,87 @@ public class DecisionEngine {
                 ));
                 continue;
             }
+            Duration interval = expectedScanInterval(a.targetId(), a.scannedAt(), now);
+            if (!a.scannedAt().plus(properties.staleUnknownAfter(interval)).isAfter(now)) {
+                issues.add(new DecisionIssueDto(
+                        DecisionVerdict.UNKNOWN,
+                        DecisionIssueKind.ACTUATOR_TARGET,
+                        a.targetId(),
+                        a.serverName(),
+                        a.role(),
+                        "Microservice " + a.profile(),
+                        staleMessage(a.scannedAt(), now)
+                ));
+                continue;
+            }
+            staleAt = earliest(staleAt, nextStaleAt(a.scannedAt(), interval, now));
+            if (!a.scannedAt().plus(properties.staleWarnAfter(interval)).isAfter(now)) {
+                issues.add(new DecisionIssueDto(
+                        DecisionVerdict.WARN,
+                        DecisionIssueKind.ACTUATOR_TARGET,
+                        a.targetId(),
+                        a.serverName(),
+                        a.role(),
+                        "Microservice " + a.profile(),
+                        staleMessage(a.scannedAt(), now)
+                ));
+            }
             if (a.outcomeKind() == TomcatScanOutcomeKind.ERROR) {
                 issues.add(new DecisionIssueDto(
-                        DecisionVerdict.BLOCK,
+                        errorSeverity(a.targetId()),
                         DecisionIssueKind.ACTUATOR_TARGET,
                         a.targetId(),
                         a.serverName(),
                         a.role(),
                         "Microservice " + a.profile(),
                         (a.errorKind() == null ? "ERROR" : a.errorKind().name()) + ": " + (a.errorMessage() == null ? "Unknown error" : a.errorMessage())
+                                + recentFailures(a.targetId())
                 ));
                 continue;
             }
 
-            DecisionVerdict severity = DecisionVerdict.OK;
-            List<String> parts = new ArrayList<>();
+            boolean healthy = isUp(a.healthStatus());
+            SampleWindow.Snapshot window = snapshot(a.targetId());
+            int match = policy.match(a.serverName(), a.role(), a.profile(), a.cpuUsage(), a.memoryUsedBytes(), window);
+            int ruleSeverity = match >>> 8;
+            if (healthy && ruleSeverity == CompiledDecisionPolicy.SEVERITY_NONE) {
+                continue;
+            }
 
-            String hs = a.healthStatus() == null ? "" : a.healthStatus().trim();
-            if (!"UP".equalsIgnoreCase(hs)) {
-                severity = DecisionVerdict.BLOCK;
+            DecisionVerdict severity = !healthy || ruleSeverity == CompiledDecisionPolicy.SEVERITY_BLOCK
+                    ? DecisionVerdict.BLOCK
+                    : DecisionVerdict.WARN;
+            List<String> parts = new ArrayList<>();
+            if (!healthy) {
+                String hs = a.healthStatus() == null ? "" : a.healthStatus().trim();
                 parts.add("health=" + (hs.isBlank() ? "UNKNOWN" : hs.toUpperCase()));
             }
-
-            if (a.cpuUsage() != null) {
-                if (a.cpuUsage() >= CPU_BLOCK) {
-                    severity = DecisionVerdict.BLOCK;
-                    parts.add("cpu=" + formatPct(a.cpuUsage()));
-                } else if (a.cpuUsage() >= CPU_WARN && severity != DecisionVerdict.BLOCK) {
-                    severity = DecisionVerdict.WARN;
-                    parts.add("cpu=" + formatPct(a.cpuUsage()));
+            for (int agg = SampleWindow.LATEST; agg <= SampleWindow.P95; agg++) {
+                if ((match & (CompiledDecisionPolicy.METRIC_CPU << agg)) != 0) {
+                    double cpu = agg == SampleWindow.LATEST ? a.cpuUsage() : window.value(SampleWindow.CPU, agg);
+                    parts.add("cpu" + AGGREGATION_SUFFIX[agg] + "=" + formatPct(cpu));
                 }
             }
-
-            if (a.memoryUsedBytes() != null) {
-                if (a.memoryUsedBytes() >= MEMORY_BLOCK_BYTES) {
-                    severity = DecisionVerdict.BLOCK;
-                    parts.add("memory=" + formatBytes(a.memoryUsedBytes()));
-                } else if (a.memoryUsedBytes() >= MEMORY_WARN_BYTES && severity != DecisionVerdict.BLOCK) {
-                    severity = DecisionVerdict.WARN;
-                    parts.add("memory=" + formatBytes(a.memoryUsedBytes()));
+            for (int agg = SampleWindow.LATEST; agg <= SampleWindow.P95; agg++) {
+                if ((match & (CompiledDecisionPolicy.METRIC_MEMORY << agg)) != 0) {
+                    double memory = agg == SampleWindow.LATEST ? a.memoryUsedBytes() : window.value(SampleWindow.MEMORY, agg);
+                    parts.add("memory" + AGGREGATION_SUFFIX[agg] + "=" + formatBytes((long) memory));
                 }
             }
 
-            if (severity != DecisionVerdict.OK) {
-                String message = String.join(", ", parts);
-                if (a.appName() != null && !a.appName().isBlank()) {
-                    message = a.appName().trim() + (message.isBlank() ? "" : " · " + message);
-                }
-                issues.add(new DecisionIssueDto(
-                        severity,
-                        DecisionIssueKind.ACTUATOR_TARGET,
-                        a.targetId(),
-                        a.serverName(),
-                        a.role(),
-                        "Microservice " + a.profile(),
-                        message.isBlank() ? "Degraded" : message
-                ));
+            String message = String.join(", ", parts);
+            if (a.appName() != null && !a.appName().isBlank()) {
+                message = a.appName().trim() + (message.isBlank() ? "" : " · " + message);
             }
+            issues.add(new DecisionIssueDto(
+                    severity,
+                    DecisionIssueKind.ACTUATOR_TARGET,
+                    a.targetId(),
+                    a.serverName(),
+                    a.role(),
+                    "Microservice " + a.profile(),
+                    message.isBlank() ? "Degraded" : message
+            ));
         }
 
         int block = 0;
@@ -141,7 +306,115 @@ public class DecisionEngine {
             verdict = DecisionVerdict.UNKNOWN;
         }
 
-        return new DecisionEvaluation(verdict, List.copyOf(issues), block, warn, unknown);
+        return new DecisionEvaluation(verdict, List.copyOf(issues), block, warn, unknown, staleAt);
+    }
+
+    // Staleness is judged against the interval the target is actually being scanned at: a target on the fast
+    // cadence that stops being scanned goes stale after a few fast intervals, not after several stable ones.
+    private Duration expectedScanInterval(UUID targetId, Instant scannedAt, Instant now) {
+        OptionalLong intervalMs = scanCadence.expectedIntervalMs(targetId, scannedAt, now);
+        return intervalMs.isPresent() ? Duration.ofMillis(intervalMs.getAsLong()) : properties.expectedScanInterval();
+    }
+
+    private Instant nextStaleAt(Instant scannedAt, Duration scanInterval, Instant now) {
+        Instant warnAt = scannedAt.plus(properties.staleWarnAfter(scanInterval));
+        return warnAt.isAfter(now) ? warnAt : scannedAt.plus(properties.staleUnknownAfter(scanInterval));
+    }
+
+    private static Instant earliest(Instant a, Instant b) {
+        return a == null || b.isBefore(a) ? b : a;
+    }
+
+    private static String staleMessage(Instant scannedAt, Instant now) {
+        return "Stale: last scan " + Duration.between(scannedAt, now).toSeconds() + "s ago";
+    }
+
+    // One query for every target whose window is older than its observation, i.e. last scanned by another node.
+    private void catchUpWindows(
+            List<DecisionInputs.TomcatTargetObservation> tomcats,
+            List<DecisionInputs.ActuatorTargetObservation> actuators
+    ) {
+        Set<UUID> behind = new HashSet<>();
+        for (DecisionInputs.TomcatTargetObservation t : tomcats) {
+            if (isBehind(t.targetId(), t.scannedAt())) {
+                behind.add(t.targetId());
+            }
+        }
+        for (DecisionInputs.ActuatorTargetObservation a : actuators) {
+            if (isBehind(a.targetId(), a.scannedAt())) {
+                behind.add(a.targetId());
+            }
+        }
+        if (behind.isEmpty()) {
+            return;
+        }
+        List<DecisionSampleRepository.Sample> samples;
+        try {
+            samples = decisionSampleRepository.recent(behind, historySize());
+        } catch (DataAccessException e) {
+            log.warn("Failed to load decision samples for {} targets; using local windows: {}", behind.size(), e.getMessage());
+            return;
+        }
+        Map<UUID, SampleWindow> rebuilt = new HashMap<>();
+        for (DecisionSampleRepository.Sample sample : samples) {
+            rebuilt.computeIfAbsent(sample.targetId(), id -> newWindow())
+                    .push(sample.scannedAt(), sample.failed(), sample.cpuUsage(), sample.memoryUsedBytes());
+        }
+        // A local scan may have landed meanwhile; never replace a window with an older one.
+        rebuilt.forEach((targetId, window) -> windows.merge(targetId, window,
+                (current, loaded) -> isNewer(loaded.lastScannedAt(), current.lastScannedAt()) ? loaded : current));
+    }
+
+    private boolean isBehind(UUID targetId, Instant observedAt) {
+        if (observedAt == null) {
+            return false;
+        }
+        SampleWindow window = windows.get(targetId);
+        return window == null || isNewer(observedAt, window.lastScannedAt());
+    }
+
+    private static boolean isNewer(Instant candidate, Instant current) {
+        return current == null || (candidate != null && candidate.isAfter(current));
+    }
+
+    private SampleWindow newWindow() {
+        return new SampleWindow(properties.sampleWindow());
+    }
+
+    // Error damping reads up to error-window failure bits, which may reach further back than sample-window.
+    private int historySize() {
+        return Math.max(properties.sampleWindow(), properties.errorWindow());
+    }
+
+    private SampleWindow.Snapshot snapshot(UUID targetId) {
+        SampleWindow window = windows.get(targetId);
+        return window == null ? SampleWindow.Snapshot.EMPTY : window.snapshot();
+    }
+
+    // Consecutive-failure damping: the error blocks once error-failures scans in a row have failed within the last
+    // error-window scans, so scattered failures only warn and a single success inside the window does not clear a
+    // block that is failing again. Without history the error blocks as before.
+    private DecisionVerdict errorSeverity(UUID targetId) {
+        SampleWindow.Snapshot window = snapshot(targetId);
+        if (window.samples() == 0) {
+            return DecisionVerdict.BLOCK;
+        }
+        return window.longestFailureRun(properties.errorWindow()) >= properties.errorFailures()
+                ? DecisionVerdict.BLOCK
+                : DecisionVerdict.WARN;
+    }
+
+    private String recentFailures(UUID targetId) {
+        SampleWindow.Snapshot window = snapshot(targetId);
+        if (window.samples() == 0) {
+            return "";
+        }
+        int seen = Math.min(window.samples(), properties.errorWindow());
+        return " (" + window.recentFailures(properties.errorWindow()) + "/" + seen + " recent scans failed)";
+    }
+
+    private static boolean isUp(String healthStatus) {
+        return healthStatus != null && "UP".equalsIgnoreCase(healthStatus.trim());
     }
 
     private static String formatPct(double ratio) {
@@ -158,5 +431,30 @@ public class DecisionEngine {
         double rounded = Math.round(gb * 10.0) / 10.0;
         return rounded + "GB";
     }
-}
 
+    private record InstalledPolicy(
+            long version,
+            List<DecisionRuleDto> rules,
+            CompiledDecisionPolicy global,
+            boolean hasEnvironmentRules,
+            ConcurrentHashMap<UUID, CompiledDecisionPolicy> byEnvironment
+    ) {
+        static InstalledPolicy of(long version, List<DecisionRuleDto> rules) {
+            List<DecisionRuleDto> copy = List.copyOf(rules);
+            return new InstalledPolicy(
+                    version,
+                    copy,
+                    CompiledDecisionPolicy.compile(copy, null),
+                    copy.stream().anyMatch(r -> r.scope() == DecisionRuleScope.ENVIRONMENT),
+                    new ConcurrentHashMap<>()
+            );
+        }
+
+        CompiledDecisionPolicy forEnvironment(UUID environmentId) {
+            if (environmentId == null || !hasEnvironmentRules) {
+                return global;
+            }
+            return byEnvironment.computeIfAbsent(environmentId, id -> CompiledDecisionPolicy.compile(rules, id));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.pockethive.hivewatch.service.decision;
 
 import io.pockethive.hivewatch.service.api.DecisionIssueDto;
 import io.pockethive.hivewatch.service.api.DecisionVerdict;
+import java.time.Instant;
 import java.util.List;
 
 public record DecisionEvaluation(
@@ -9,7 +10,8 @@ public record DecisionEvaluation(
         List<DecisionIssueDto> issues,
         int blockIssues,
         int warnIssues,
-        int unknownIssues
+        int unknownIssues,
+        Instant staleAt
 ) {
 }
 
@@ -0,0 +1,7 @@
+package io.pockethive.hivewatch.service.decision;
+
+import io.pockethive.hivewatch.service.api.DecisionRuleDto;
+import java.util.List;
+
+public record DecisionPolicyChangedEvent(long version, List<DecisionRuleDto> rules) {
+}
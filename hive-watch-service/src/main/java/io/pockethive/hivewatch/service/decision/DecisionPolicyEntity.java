@@ -0,0 +1,47 @@
+package io.pockethive.hivewatch.service.decision;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "hw_decision_policy")
+public class DecisionPolicyEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected DecisionPolicyEntity() {
+    }
+
+    public DecisionPolicyEntity(UUID id, long version, Instant updatedAt) {
+        this.id = id;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void bump(Instant now) {
+        this.version++;
+        this.updatedAt = now;
+    }
+}
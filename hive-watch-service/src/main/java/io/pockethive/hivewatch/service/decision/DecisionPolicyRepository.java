@@ -0,0 +1,7 @@
+package io.pockethive.hivewatch.service.decision;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DecisionPolicyRepository extends JpaRepository<DecisionPolicyEntity, UUID> {
+}
@@ -0,0 +1,128 @@
+package io.pockethive.hivewatch.service.decision;
+
+import io.pockethive.hivewatch.service.api.DecisionAggregation;
+import io.pockethive.hivewatch.service.api.DecisionPolicyDto;
+import io.pockethive.hivewatch.service.api.DecisionPolicyReplaceRequestDto;
+import io.pockethive.hivewatch.service.api.DecisionRuleDto;
+import io.pockethive.hivewatch.service.api.DecisionRuleScope;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+@Service
+public class DecisionPolicyService {
+    static final UUID POLICY_ID = UUID.fromString("dddddddd-dddd-dddd-dddd-dddddddd0001");
+    private static final int MAX_RULES = 200;
+
+    private final DecisionPolicyRepository policyRepository;
+    private final DecisionRuleRepository ruleRepository;
+    private final DecisionEngine decisionEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DecisionPolicyService(
+            DecisionPolicyRepository policyRepository,
+            DecisionRuleRepository ruleRepository,
+            DecisionEngine decisionEngine,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.policyRepository = policyRepository;
+        this.ruleRepository = ruleRepository;
+        this.decisionEngine = decisionEngine;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadOnStartup() {
+        DecisionPolicyDto policy = getPolicy();
+        decisionEngine.installPolicy(policy.version(), policy.rules());
+    }
+
+    @Transactional(readOnly = true)
+    public DecisionPolicyDto getPolicy() {
+        DecisionPolicyEntity policy = policyRepository.findById(POLICY_ID)
+                .orElseThrow(() -> new IllegalStateException("Decision policy is missing: " + POLICY_ID));
+        List<DecisionRuleDto> rules = ruleRepository.findByPolicyIdOrderByPositionAsc(POLICY_ID).stream()
+                .map(DecisionRuleEntity::toDto)
+                .toList();
+        return new DecisionPolicyDto(policy.getVersion(), policy.getUpdatedAt(), rules);
+    }
+
+    @Transactional
+    public DecisionPolicyDto replacePolicy(DecisionPolicyReplaceRequestDto request) {
+        List<DecisionRuleDto> rules = normalize(request);
+
+        DecisionPolicyEntity policy = policyRepository.findById(POLICY_ID)
+                .orElseThrow(() -> new IllegalStateException("Decision policy is missing: " + POLICY_ID));
+        Instant now = Instant.now();
+        policy.bump(now);
+        policyRepository.save(policy);
+
+        ruleRepository.deleteByPolicyId(POLICY_ID);
+        List<DecisionRuleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < rules.size(); i++) {
+            entities.add(new DecisionRuleEntity(UUID.randomUUID(), POLICY_ID, i, rules.get(i), now));
+        }
+        ruleRepository.saveAll(entities);
+
+        eventPublisher.publishEvent(new DecisionPolicyChangedEvent(policy.getVersion(), rules));
+        eventPublisher.publishEvent(ConfigChangedEvent.global());
+        return new DecisionPolicyDto(policy.getVersion(), now, rules);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(DecisionPolicyChangedEvent event) {
+        decisionEngine.installPolicy(event.version(), event.rules());
+    }
+
+    // Another node may have replaced the policy; a remote global config change is the cue to reload.
+    @EventListener
+    public void onRemoteConfigChanged(ConfigChangedEvent event) {
+        if (!event.remote() || event.environmentId() != null) {
+            return;
+        }
+        DecisionPolicyDto policy = getPolicy();
+        if (policy.version() != decisionEngine.policyVersion()) {
+            decisionEngine.installPolicy(policy.version(), policy.rules());
+        }
+    }
+
+    private static List<DecisionRuleDto> normalize(DecisionPolicyReplaceRequestDto request) {
+        if (request == null || request.rules() == null) {
+            throw new ResponseStatusException(BAD_REQUEST, "rules are required");
+        }
+        if (request.rules().size() > MAX_RULES) {
+            throw new ResponseStatusException(BAD_REQUEST, "At most " + MAX_RULES + " rules are allowed");
+        }
+        List<DecisionRuleDto> normalized = new ArrayList<>();
+        for (DecisionRuleDto rule : request.rules()) {
+            try {
+                CompiledDecisionPolicy.validate(rule);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+            }
+            String scopeValue = rule.scopeValue() == null || rule.scopeValue().isBlank() ? null : rule.scopeValue().trim();
+            normalized.add(new DecisionRuleDto(
+                    rule.metric(),
+                    rule.aggregation() == null ? DecisionAggregation.LATEST : rule.aggregation(),
+                    rule.comparator(),
+                    rule.threshold(),
+                    rule.severity(),
+                    rule.scope(),
+                    rule.scope() == DecisionRuleScope.GLOBAL ? null : scopeValue
+            ));
+        }
+        return List.copyOf(normalized);
+    }
+}
@@ -0,0 +1,45 @@
+package io.pockethive.hivewatch.service.decision;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.decision")
+public record DecisionProperties(
+        int sampleWindow,
+        int errorFailures,
+        int errorWindow,
+        Duration expectedScanInterval,
+        int staleWarnIntervals,
+        int staleUnknownIntervals,
+        Duration staleGrace
+) {
+    public DecisionProperties {
+        if (sampleWindow < 1) {
+            throw new IllegalArgumentException("hivewatch.decision.sample-window must be >= 1");
+        }
+        if (errorWindow < 1 || errorWindow > 64) {
+            throw new IllegalArgumentException("hivewatch.decision.error-window must be between 1 and 64");
+        }
+        if (errorFailures < 1 || errorFailures > errorWindow) {
+            throw new IllegalArgumentException("hivewatch.decision.error-failures must be between 1 and error-window");
+        }
+        if (expectedScanInterval == null || expectedScanInterval.isNegative() || expectedScanInterval.isZero()) {
+            throw new IllegalArgumentException("hivewatch.decision.expected-scan-interval must be positive");
+        }
+        if (staleWarnIntervals < 1 || staleUnknownIntervals < staleWarnIntervals) {
+            throw new IllegalArgumentException("hivewatch.decision stale thresholds must satisfy 1 <= warn <= unknown");
+        }
+        if (staleGrace == null || staleGrace.isNegative()) {
+            throw new IllegalArgumentException("hivewatch.decision.stale-grace must be >= 0");
+        }
+    }
+
+    // scanInterval is the target's current cadence, or expectedScanInterval when this node has none for it.
+    public Duration staleWarnAfter(Duration scanInterval) {
+        return scanInterval.multipliedBy(staleWarnIntervals).plus(staleGrace);
+    }
+
+    public Duration staleUnknownAfter(Duration scanInterval) {
+        return scanInterval.multipliedBy(staleUnknownIntervals).plus(staleGrace);
+    }
+}
@@ -0,0 +1,91 @@
+package io.pockethive.hivewatch.service.decision;
+
+import io.pockethive.hivewatch.service.api.DecisionAggregation;
+import io.pockethive.hivewatch.service.api.DecisionComparator;
+import io.pockethive.hivewatch.service.api.DecisionMetric;
+import io.pockethive.hivewatch.service.api.DecisionRuleDto;
+import io.pockethive.hivewatch.service.api.DecisionRuleScope;
+import io.pockethive.hivewatch.service.api.DecisionVerdict;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "hw_decision_rules")
+public class DecisionRuleEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "policy_id", nullable = false)
+    private UUID policyId;
+
+    @Column(name = "position", nullable = false)
+    private int position;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false)
+    private DecisionMetric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregation", nullable = false)
+    private DecisionAggregation aggregation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "comparator", nullable = false)
+    private DecisionComparator comparator;
+
+    @Column(name = "threshold", nullable = false)
+    private double threshold;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "severity", nullable = false)
+    private DecisionVerdict severity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false)
+    private DecisionRuleScope scope;
+
+    @Column(name = "scope_value")
+    private String scopeValue;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected DecisionRuleEntity() {
+    }
+
+    public DecisionRuleEntity(UUID id, UUID policyId, int position, DecisionRuleDto rule, Instant createdAt) {
+        this.id = id;
+        this.policyId = policyId;
+        this.position = position;
+        this.metric = rule.metric();
+        this.aggregation = rule.aggregation();
+        this.comparator = rule.comparator();
+        this.threshold = rule.threshold();
+        this.severity = rule.severity();
+        this.scope = rule.scope();
+        this.scopeValue = rule.scopeValue();
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getPolicyId() {
+        return policyId;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public DecisionRuleDto toDto() {
+        return new DecisionRuleDto(metric, aggregation, comparator, threshold, severity, scope, scopeValue);
+    }
+}
@@ -0,0 +1,17 @@
+package io.pockethive.hivewatch.service.decision;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DecisionRuleRepository extends JpaRepository<DecisionRuleEntity, UUID> {
+    List<DecisionRuleEntity> findByPolicyIdOrderByPositionAsc(UUID policyId);
+
+    // Bulk delete runs immediately, so re-inserting the same positions cannot trip the unique constraint.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from DecisionRuleEntity r where r.policyId = :policyId")
+    int deleteByPolicyId(@Param("policyId") UUID policyId);
+}
@@ -0,0 +1,64 @@
+package io.pockethive.hivewatch.service.decision;
+
+import io.pockethive.hivewatch.service.api.DecisionAggregation;
+import io.pockethive.hivewatch.service.api.DecisionRuleDto;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+// Ad-hoc rule sets from orchestrators are polled repeatedly with identical content; compile each one once.
+@Component
+public class DecisionRuleSetCache {
+    private static final int MAX_ENTRIES = 256;
+
+    private final Map<Key, CompiledDecisionPolicy> compiled = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CompiledDecisionPolicy> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public CompiledDecisionPolicy get(String hash, UUID environmentId, List<DecisionRuleDto> rules) {
+        Key key = new Key(hash, environmentId);
+        synchronized (compiled) {
+            CompiledDecisionPolicy policy = compiled.get(key);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        CompiledDecisionPolicy policy = CompiledDecisionPolicy.compile(rules, environmentId);
+        synchronized (compiled) {
+            compiled.put(key, policy);
+        }
+        return policy;
+    }
+
+    public static String hash(List<DecisionRuleDto> rules) {
+        StringBuilder canonical = new StringBuilder();
+        for (DecisionRuleDto r : rules) {
+            canonical.append(r.metric()).append('|')
+                    .append(r.aggregation() == null ? DecisionAggregation.LATEST : r.aggregation()).append('|')
+                    .append(r.comparator()).append('|')
+                    .append(Double.toString(r.threshold())).append('|')
+                    .append(r.severity()).append('|')
+                    .append(r.scope()).append('|')
+                    .append(r.scopeValue() == null ? "" : r.scopeValue().trim())
+                    .append('\n');
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Key(String hash, UUID environmentId) {
+    }
+}
@@ -0,0 +1,95 @@
+package io.pockethive.hivewatch.service.decision;
+
+import io.pockethive.hivewatch.service.datasource.ScannerDataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Writes go through the scanner pool, next to the scan state they belong to; reads and deletes use the API pool.
+@Repository
+public class DecisionSampleRepository {
+    private static final String INSERT_SQL = """
+            insert into hw_decision_samples(target_id, scanned_at, failed, cpu_usage, memory_used_bytes)
+            values (:targetId, :scannedAt, :failed, :cpuUsage, :memoryUsedBytes)
+            on conflict (target_id, scanned_at) do nothing
+            """;
+
+    // Keeps the newest :keep samples of the target.
+    private static final String TRIM_SQL = """
+            delete from hw_decision_samples
+            where target_id = :targetId
+              and scanned_at <= (
+                select scanned_at from hw_decision_samples
+                where target_id = :targetId
+                order by scanned_at desc
+                offset :keep
+                limit 1
+              )
+            """;
+
+    private static final String RECENT_SQL = """
+            select target_id, scanned_at, failed, cpu_usage, memory_used_bytes
+            from (
+              select s.*, row_number() over (partition by s.target_id order by s.scanned_at desc) as rn
+              from hw_decision_samples s
+              where s.target_id in (:targetIds)
+            ) r
+            where r.rn <= :limit
+            order by r.target_id, r.scanned_at
+            """;
+
+    private static final String DELETE_SQL = "delete from hw_decision_samples where target_id = :targetId";
+
+    private final ScannerDataSource scannerDataSource;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public DecisionSampleRepository(ScannerDataSource scannerDataSource, NamedParameterJdbcTemplate jdbc) {
+        this.scannerDataSource = scannerDataSource;
+        this.jdbc = jdbc;
+    }
+
+    public void append(UUID targetId, Instant scannedAt, boolean failed, Double cpuUsage, Long memoryUsedBytes, int keep) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("targetId", targetId)
+                .addValue("scannedAt", Timestamp.from(scannedAt))
+                .addValue("failed", failed)
+                .addValue("cpuUsage", cpuUsage)
+                .addValue("memoryUsedBytes", memoryUsedBytes)
+                .addValue("keep", keep);
+        scannerDataSource.jdbc().update(INSERT_SQL, params);
+        scannerDataSource.jdbc().update(TRIM_SQL, params);
+    }
+
+    // Oldest first per target, at most limit samples each.
+    public List<Sample> recent(Collection<UUID> targetIds, int limit) {
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbc.query(RECENT_SQL, Map.of("targetIds", targetIds, "limit", limit), (rs, rowNum) -> {
+            double cpu = rs.getDouble("cpu_usage");
+            Double cpuUsage = rs.wasNull() ? null : cpu;
+            long memory = rs.getLong("memory_used_bytes");
+            Long memoryUsedBytes = rs.wasNull() ? null : memory;
+            return new Sample(
+                    rs.getObject("target_id", UUID.class),
+                    rs.getTimestamp("scanned_at").toInstant(),
+                    rs.getBoolean("failed"),
+                    cpuUsage,
+                    memoryUsedBytes
+            );
+        });
+    }
+
+    public void delete(UUID targetId) {
+        jdbc.update(DELETE_SQL, Map.of("targetId", targetId));
+    }
+
+    public record Sample(UUID targetId, Instant scannedAt, boolean failed, Double cpuUsage, Long memoryUsedBytes) {
+    }
+}
@@ -0,0 +1,121 @@
+package io.pockethive.hivewatch.service.decision;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+// Fixed-size ring of recent samples for one target. Aggregates are recomputed on push, never on evaluate.
+final class SampleWindow {
+    static final int CPU = 0;
+    static final int MEMORY = 1;
+
+    static final int LATEST = 0;
+    static final int MEAN = 1;
+    static final int MAX = 2;
+    static final int P95 = 3;
+
+    private final int capacity;
+    private final double[][] samples;
+    private final double[] sums = new double[2];
+    private final int[] counts = new int[2];
+    private final double[] scratch;
+    private int head;
+    private int size;
+    private long failureBits;
+    private Instant lastScannedAt;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    SampleWindow(int capacity) {
+        this.capacity = capacity;
+        this.samples = new double[2][capacity];
+        this.scratch = new double[capacity];
+        Arrays.fill(samples[CPU], Double.NaN);
+        Arrays.fill(samples[MEMORY], Double.NaN);
+    }
+
+    synchronized void push(Instant scannedAt, boolean failed, Double cpuUsage, Long memoryUsedBytes) {
+        if (lastScannedAt != null && scannedAt != null && !scannedAt.isAfter(lastScannedAt)) {
+            return;
+        }
+        lastScannedAt = scannedAt;
+        failureBits = (failureBits << 1) | (failed ? 1L : 0L);
+
+        double[] values = {
+                cpuUsage == null ? Double.NaN : cpuUsage,
+                memoryUsedBytes == null ? Double.NaN : memoryUsedBytes.doubleValue()
+        };
+        for (int m = 0; m < 2; m++) {
+            double evicted = samples[m][head];
+            if (size == capacity && !Double.isNaN(evicted)) {
+                sums[m] -= evicted;
+                counts[m]--;
+            }
+            samples[m][head] = values[m];
+            if (!Double.isNaN(values[m])) {
+                sums[m] += values[m];
+                counts[m]++;
+            }
+        }
+        head = (head + 1) % capacity;
+        if (size < capacity) {
+            size++;
+        }
+
+        double[] aggregates = new double[8];
+        for (int m = 0; m < 2; m++) {
+            aggregates[m * 4 + LATEST] = values[m];
+            aggregates[m * 4 + MEAN] = counts[m] == 0 ? Double.NaN : sums[m] / counts[m];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                double v = samples[m][i];
+                if (!Double.isNaN(v)) {
+                    scratch[n++] = v;
+                }
+            }
+            if (n == 0) {
+                aggregates[m * 4 + MAX] = Double.NaN;
+                aggregates[m * 4 + P95] = Double.NaN;
+            } else {
+                Arrays.sort(scratch, 0, n);
+                aggregates[m * 4 + MAX] = scratch[n - 1];
+                aggregates[m * 4 + P95] = scratch[(int) Math.ceil(0.95 * n) - 1];
+            }
+        }
+        snapshot = new Snapshot(aggregates, failureBits, size);
+    }
+
+    synchronized Instant lastScannedAt() {
+        return lastScannedAt;
+    }
+
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    record Snapshot(double[] aggregates, long failureBits, int samples) {
+        static final Snapshot EMPTY = new Snapshot(new double[0], 0L, 0);
+
+        double value(int metric, int aggregation) {
+            int i = metric * 4 + aggregation;
+            return i < aggregates.length ? aggregates[i] : Double.NaN;
+        }
+
+        int recentFailures(int window) {
+            return Long.bitCount(failureBits & mask(window));
+        }
+
+        // Longest run of consecutive failed scans among the last window scans.
+        int longestFailureRun(int window) {
+            long bits = failureBits & mask(window);
+            int longest = 0;
+            while (bits != 0) {
+                bits &= bits << 1;
+                longest++;
+            }
+            return longest;
+        }
+
+        private static long mask(int window) {
+            return window >= 64 ? -1L : (1L << window) - 1;
+        }
+    }
+}
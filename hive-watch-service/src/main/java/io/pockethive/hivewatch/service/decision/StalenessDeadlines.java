@@ -0,0 +1,43 @@
+package io.pockethive.hivewatch.service.decision;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+// Min-heap of the next instant each environment's decision turns stale. Superseded entries are skipped lazily.
+final class StalenessDeadlines {
+    private final PriorityQueue<Deadline> heap = new PriorityQueue<>();
+    private final Map<UUID, Instant> earliest = new HashMap<>();
+
+    synchronized void schedule(UUID environmentId, Instant staleAt) {
+        Instant existing = earliest.get(environmentId);
+        if (existing != null && !existing.isAfter(staleAt)) {
+            return;
+        }
+        earliest.put(environmentId, staleAt);
+        heap.add(new Deadline(staleAt, environmentId));
+    }
+
+    synchronized List<UUID> drainDue(Instant now) {
+        List<UUID> due = new ArrayList<>();
+        while (!heap.isEmpty() && !heap.peek().staleAt().isAfter(now)) {
+            Deadline d = heap.poll();
+            if (d.staleAt().equals(earliest.get(d.environmentId()))) {
+                earliest.remove(d.environmentId());
+                due.add(d.environmentId());
+            }
+        }
+        return due;
+    }
+
+    private record Deadline(Instant staleAt, UUID environmentId) implements Comparable<Deadline> {
+        @Override
+        public int compareTo(Deadline other) {
+            return staleAt.compareTo(other.staleAt);
+        }
+    }
+}
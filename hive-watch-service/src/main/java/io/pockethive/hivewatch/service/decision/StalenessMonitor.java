@@ -0,0 +1,28 @@
+package io.pockethive.hivewatch.service.decision;
+
+import io.pockethive.hivewatch.service.state.ScanStateChangedEvent;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Bumps the state revision of environments whose observations just crossed a stale threshold,
+// so cached status/dashboard fragments are re-evaluated without waiting for the next scan.
+@Component
+public class StalenessMonitor {
+    private final DecisionEngine decisionEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StalenessMonitor(DecisionEngine decisionEngine, ApplicationEventPublisher eventPublisher) {
+        this.decisionEngine = decisionEngine;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(fixedDelayString = "${hivewatch.decision.staleness-check-ms}")
+    public void flipStaleEnvironments() {
+        for (UUID environmentId : decisionEngine.drainStaleEnvironments(Instant.now())) {
+            eventPublisher.publishEvent(new ScanStateChangedEvent(environmentId));
+        }
+    }
+}
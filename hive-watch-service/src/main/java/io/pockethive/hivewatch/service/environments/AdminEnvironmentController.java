@@ -5,9 +5,11 @@ import io.pockethive.hivewatch.service.api.EnvironmentCloneRequestDto;
 import io.pockethive.hivewatch.service.api.EnvironmentCloneResultDto;
 import io.pockethive.hivewatch.service.api.EnvironmentSummaryDto;
 import io.pockethive.hivewatch.service.api.EnvironmentUpdateRequestDto;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -25,10 +27,12 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 public class AdminEnvironmentController {
     private final EnvironmentRepository environmentRepository;
     private final EnvironmentCloneService environmentCloneService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AdminEnvironmentController(EnvironmentRepository environmentRepository, EnvironmentCloneService environmentCloneService) {
+    public AdminEnvironmentController(EnvironmentRepository environmentRepository, EnvironmentCloneService environmentCloneService, ApplicationEventPublisher eventPublisher) {
         this.environmentRepository = environmentRepository;
         this.environmentCloneService = environmentCloneService;
+        this.eventPublisher = eventPublisher;
     }
 
     @GetMapping("/api/v1/admin/environments")
@@ -51,6 +55,7 @@ public class AdminEnvironmentController {
             throw new ResponseStatusException(BAD_REQUEST, "name already exists");
         }
         EnvironmentEntity saved = environmentRepository.save(new EnvironmentEntity(UUID.randomUUID(), name));
+        eventPublisher.publishEvent(new ConfigChangedEvent(saved.getId()));
         return new EnvironmentSummaryDto(saved.getId(), saved.getName());
     }
 
@@ -77,6 +82,7 @@ public class AdminEnvironmentController {
 
         env.setName(name);
         EnvironmentEntity saved = environmentRepository.save(env);
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return new EnvironmentSummaryDto(saved.getId(), saved.getName());
     }
 
@@ -85,6 +91,7 @@ public class AdminEnvironmentController {
         EnvironmentEntity env = environmentRepository.findById(environmentId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Environment not found"));
         environmentRepository.delete(env);
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
     }
 
     @PostMapping("/api/v1/admin/environments/{environmentId}/clone")
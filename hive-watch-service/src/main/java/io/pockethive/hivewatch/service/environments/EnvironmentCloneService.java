@@ -11,6 +11,7 @@ import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedService
 import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecRepository;
 import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecEntity;
 import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecRepository;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
 import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
 import io.pockethive.hivewatch.service.tomcat.TomcatTargetRepository;
 import io.pockethive.hivewatch.service.tomcat.expected.TomcatExpectedWebappEntity;
@@ -20,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -37,6 +39,7 @@ public class EnvironmentCloneService {
     private final TomcatExpectedWebappRepository tomcatExpectedWebappRepository;
     private final DockerExpectedServiceSpecRepository dockerExpectedServiceSpecRepository;
     private final DockerExpectedServiceRepository dockerExpectedServiceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public EnvironmentCloneService(
             EnvironmentRepository environmentRepository,
@@ -46,7 +49,8 @@ public class EnvironmentCloneService {
             TomcatExpectedWebappSpecRepository tomcatExpectedWebappSpecRepository,
             TomcatExpectedWebappRepository tomcatExpectedWebappRepository,
             DockerExpectedServiceSpecRepository dockerExpectedServiceSpecRepository,
-            DockerExpectedServiceRepository dockerExpectedServiceRepository
+            DockerExpectedServiceRepository dockerExpectedServiceRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.environmentRepository = environmentRepository;
         this.serverRepository = serverRepository;
@@ -56,6 +60,7 @@ public class EnvironmentCloneService {
         this.tomcatExpectedWebappRepository = tomcatExpectedWebappRepository;
         this.dockerExpectedServiceSpecRepository = dockerExpectedServiceSpecRepository;
         this.dockerExpectedServiceRepository = dockerExpectedServiceRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -172,6 +177,7 @@ public class EnvironmentCloneService {
                 .toList();
         dockerExpectedServiceRepository.saveAll(clonedDockerItems);
 
+        eventPublisher.publishEvent(new ConfigChangedEvent(targetEnvironmentId));
         return new EnvironmentCloneResultDto(
                 clonedServers.size(),
                 clonedTomcats.size(),
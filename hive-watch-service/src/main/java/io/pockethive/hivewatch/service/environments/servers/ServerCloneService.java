@@ -10,6 +10,7 @@ import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedService
 import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecRepository;
 import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecEntity;
 import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecRepository;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
 import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
 import io.pockethive.hivewatch.service.tomcat.TomcatTargetRepository;
 import io.pockethive.hivewatch.service.tomcat.expected.TomcatExpectedWebappEntity;
@@ -17,6 +18,7 @@ import io.pockethive.hivewatch.service.tomcat.expected.TomcatExpectedWebappRepos
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -33,6 +35,7 @@ public class ServerCloneService {
     private final TomcatExpectedWebappRepository tomcatExpectedWebappRepository;
     private final DockerExpectedServiceSpecRepository dockerExpectedServiceSpecRepository;
     private final DockerExpectedServiceRepository dockerExpectedServiceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ServerCloneService(
             ServerRepository serverRepository,
@@ -41,7 +44,8 @@ public class ServerCloneService {
             TomcatExpectedWebappSpecRepository tomcatExpectedWebappSpecRepository,
             TomcatExpectedWebappRepository tomcatExpectedWebappRepository,
             DockerExpectedServiceSpecRepository dockerExpectedServiceSpecRepository,
-            DockerExpectedServiceRepository dockerExpectedServiceRepository
+            DockerExpectedServiceRepository dockerExpectedServiceRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.serverRepository = serverRepository;
         this.tomcatTargetRepository = tomcatTargetRepository;
@@ -50,6 +54,7 @@ public class ServerCloneService {
         this.tomcatExpectedWebappRepository = tomcatExpectedWebappRepository;
         this.dockerExpectedServiceSpecRepository = dockerExpectedServiceSpecRepository;
         this.dockerExpectedServiceRepository = dockerExpectedServiceRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -148,6 +153,7 @@ public class ServerCloneService {
                 ))
                 .toList());
 
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return ServerService.toDto(created);
     }
 
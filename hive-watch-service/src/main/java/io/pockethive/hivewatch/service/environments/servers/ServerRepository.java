@@ -1,12 +1,17 @@
 package io.pockethive.hivewatch.service.environments.servers;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ServerRepository extends JpaRepository<ServerEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ServerEntity> findByEnvironmentId(UUID environmentId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ServerEntity> findByEnvironmentIdIn(List<UUID> environmentIds);
 
     boolean existsByIdAndEnvironmentId(UUID id, UUID environmentId);
@@ -4,9 +4,11 @@ import io.pockethive.hivewatch.service.api.ServerCreateRequestDto;
 import io.pockethive.hivewatch.service.api.ServerDto;
 import io.pockethive.hivewatch.service.api.ServerUpdateRequestDto;
 import io.pockethive.hivewatch.service.environments.EnvironmentRepository;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -18,10 +20,12 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 public class ServerService {
     private final EnvironmentRepository environmentRepository;
     private final ServerRepository serverRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ServerService(EnvironmentRepository environmentRepository, ServerRepository serverRepository) {
+    public ServerService(EnvironmentRepository environmentRepository, ServerRepository serverRepository, ApplicationEventPublisher eventPublisher) {
         this.environmentRepository = environmentRepository;
         this.serverRepository = serverRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -41,6 +45,7 @@ public class ServerService {
                 request.name().trim(),
                 Instant.now()
         ));
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return toDto(created);
     }
 
@@ -61,6 +66,7 @@ public class ServerService {
                 request.name().trim(),
                 existing.getCreatedAt()
         ));
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return toDto(updated);
     }
 
@@ -73,6 +79,7 @@ public class ServerService {
             throw new ResponseStatusException(NOT_FOUND, "Server not found");
         }
         serverRepository.deleteById(serverId);
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
     }
 
     private void requireEnvironment(UUID environmentId) {
@@ -11,6 +11,7 @@ import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedService
 import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceRepository;
 import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecEntity;
 import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecRepository;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -20,6 +21,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -35,6 +37,7 @@ public class DockerExpectedServicesSpecService {
     private final DockerExpectedServiceSpecRepository specRepository;
     private final ExpectedSetTemplateRepository templateRepository;
     private final ExpectedSetTemplateItemRepository templateItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DockerExpectedServicesSpecService(
             EnvironmentRepository environmentRepository,
@@ -42,7 +45,8 @@ public class DockerExpectedServicesSpecService {
             DockerExpectedServiceRepository explicitRepository,
             DockerExpectedServiceSpecRepository specRepository,
             ExpectedSetTemplateRepository templateRepository,
-            ExpectedSetTemplateItemRepository templateItemRepository
+            ExpectedSetTemplateItemRepository templateItemRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.environmentRepository = environmentRepository;
         this.serverRepository = serverRepository;
@@ -50,6 +54,7 @@ public class DockerExpectedServicesSpecService {
         this.specRepository = specRepository;
         this.templateRepository = templateRepository;
         this.templateItemRepository = templateItemRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -207,6 +212,7 @@ public class DockerExpectedServicesSpecService {
         }
         explicitRepository.saveAll(explicitItems);
 
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return list(environmentId);
     }
 
@@ -261,6 +267,7 @@ public class DockerExpectedServicesSpecService {
             }
         }
 
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return getForServer(environmentId, serverId);
     }
 
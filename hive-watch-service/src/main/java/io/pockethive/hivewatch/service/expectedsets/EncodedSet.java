@@ -0,0 +1,46 @@
+package io.pockethive.hivewatch.service.expectedsets;
+
+import java.util.BitSet;
+import java.util.List;
+
+// A set of webapp paths or service profiles as a bitset over ExpectedSetDictionary indexes. Immutable; the id is
+// unique per instance, so a set built for one (target state, spec) version never collides with another.
+public final class EncodedSet {
+    private final long id;
+    private final BitSet bits;
+    private final List<String> values;
+    private final ExpectedSetDictionary dictionary;
+
+    EncodedSet(long id, BitSet bits, ExpectedSetDictionary dictionary) {
+        this.id = id;
+        this.bits = bits;
+        this.dictionary = dictionary;
+        this.values = dictionary.decode(bits);
+    }
+
+    long id() {
+        return id;
+    }
+
+    BitSet bits() {
+        return (BitSet) bits.clone();
+    }
+
+    public boolean isEmpty() {
+        return bits.isEmpty();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public boolean contains(String value) {
+        int index = dictionary.indexOf(value);
+        return index >= 0 && bits.get(index);
+    }
+
+    // Sorted case-insensitively, the order the dashboard lists them in.
+    public List<String> values() {
+        return values;
+    }
+}
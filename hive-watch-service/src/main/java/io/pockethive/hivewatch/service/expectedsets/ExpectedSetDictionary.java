@@ -0,0 +1,108 @@
+package io.pockethive.hivewatch.service.expectedsets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+// Interns webapp paths and service profiles to small ints so expected and observed sets compare with bitwise ops.
+// The dictionary only grows; it is bounded by the distinct paths and profiles ever configured or deployed.
+@Component
+public class ExpectedSetDictionary {
+    private static final int MAX_CACHED_OBSERVED = 10_000;
+    private static final int MAX_CACHED_DIFFS = 50_000;
+
+    private final Map<String, Integer> indexByValue = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[256];
+    private int size;
+
+    private final AtomicLong nextSetId = new AtomicLong();
+    private final Map<String, EncodedSet> observedByKey = new ConcurrentHashMap<>();
+    private final Map<DiffKey, ExpectedSetDiff> diffs = new ConcurrentHashMap<>();
+
+    public EncodedSet encode(Collection<String> items) {
+        BitSet bits = new BitSet();
+        for (String item : items) {
+            bits.set(index(item));
+        }
+        return new EncodedSet(nextSetId.incrementAndGet(), bits, this);
+    }
+
+    // Observed sets keyed by content (e.g. a webapp set hash) are encoded once and reused across renders.
+    public EncodedSet observed(String contentKey, Supplier<Collection<String>> items) {
+        if (contentKey == null) {
+            return encode(items.get());
+        }
+        EncodedSet cached = observedByKey.get(contentKey);
+        if (cached != null) {
+            return cached;
+        }
+        if (observedByKey.size() >= MAX_CACHED_OBSERVED) {
+            observedByKey.clear();
+        }
+        return observedByKey.computeIfAbsent(contentKey, ignored -> encode(items.get()));
+    }
+
+    public ExpectedSetDiff diff(EncodedSet expected, EncodedSet observed) {
+        DiffKey key = new DiffKey(expected.id(), observed.id());
+        ExpectedSetDiff cached = diffs.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        BitSet missing = expected.bits();
+        missing.andNot(observed.bits());
+        BitSet unexpected = observed.bits();
+        unexpected.andNot(expected.bits());
+        ExpectedSetDiff diff = new ExpectedSetDiff(decode(missing), decode(unexpected));
+        if (diffs.size() >= MAX_CACHED_DIFFS) {
+            diffs.clear();
+        }
+        diffs.put(key, diff);
+        return diff;
+    }
+
+    int indexOf(String value) {
+        Integer index = indexByValue.get(value);
+        return index == null ? -1 : index;
+    }
+
+    List<String> decode(BitSet bits) {
+        String[] current = values;
+        List<String> decoded = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            decoded.add(current[i]);
+        }
+        decoded.sort(String::compareToIgnoreCase);
+        return List.copyOf(decoded);
+    }
+
+    private int index(String value) {
+        Integer index = indexByValue.get(value);
+        return index != null ? index : register(value);
+    }
+
+    // The slot is written before the index is published, so a reader holding an index always finds its value.
+    private synchronized int register(String value) {
+        Integer index = indexByValue.get(value);
+        if (index != null) {
+            return index;
+        }
+        String[] current = values;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = value;
+        values = current;
+        indexByValue.put(value, size);
+        return size++;
+    }
+
+    private record DiffKey(long expectedId, long observedId) {
+    }
+}
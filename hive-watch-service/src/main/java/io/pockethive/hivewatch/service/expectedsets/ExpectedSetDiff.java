@@ -0,0 +1,13 @@
+package io.pockethive.hivewatch.service.expectedsets;
+
+import java.util.List;
+
+public record ExpectedSetDiff(
+        List<String> missing,
+        List<String> unexpected
+) {
+    public ExpectedSetDiff {
+        missing = List.copyOf(missing);
+        unexpected = List.copyOf(unexpected);
+    }
+}
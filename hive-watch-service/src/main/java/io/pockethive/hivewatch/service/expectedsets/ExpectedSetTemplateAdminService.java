@@ -2,12 +2,14 @@ package io.pockethive.hivewatch.service.expectedsets;
 
 import io.pockethive.hivewatch.service.api.ExpectedSetTemplateCreateRequestDto;
 import io.pockethive.hivewatch.service.api.ExpectedSetTemplateDto;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -18,13 +20,16 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 public class ExpectedSetTemplateAdminService {
     private final ExpectedSetTemplateRepository templateRepository;
     private final ExpectedSetTemplateItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ExpectedSetTemplateAdminService(
             ExpectedSetTemplateRepository templateRepository,
-            ExpectedSetTemplateItemRepository itemRepository
+            ExpectedSetTemplateItemRepository itemRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.templateRepository = templateRepository;
         this.itemRepository = itemRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -46,6 +51,7 @@ public class ExpectedSetTemplateAdminService {
                 .map(v -> new ExpectedSetTemplateItemEntity(UUID.randomUUID(), templateId, v, now))
                 .toList());
 
+        eventPublisher.publishEvent(ConfigChangedEvent.global());
         return new ExpectedSetTemplateDto(saved.getId(), saved.getKind(), saved.getName(), normalized, saved.getCreatedAt());
     }
 
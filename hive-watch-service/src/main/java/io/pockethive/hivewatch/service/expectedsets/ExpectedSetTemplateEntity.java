@@ -1,6 +1,7 @@
 package io.pockethive.hivewatch.service.expectedsets;
 
 import io.pockethive.hivewatch.service.api.ExpectedSetTemplateKind;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,9 +10,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "hw_expected_set_templates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "hw-expected-set-templates")
 public class ExpectedSetTemplateEntity {
     @Id
     private UUID id;
@@ -1,10 +1,14 @@
 package io.pockethive.hivewatch.service.expectedsets;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ExpectedSetTemplateItemRepository extends JpaRepository<ExpectedSetTemplateItemEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ExpectedSetTemplateItemEntity> findByTemplateIdIn(List<UUID> templateIds);
 }
 
@@ -1,11 +1,15 @@
 package io.pockethive.hivewatch.service.expectedsets;
 
 import io.pockethive.hivewatch.service.api.ExpectedSetTemplateKind;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ExpectedSetTemplateRepository extends JpaRepository<ExpectedSetTemplateEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ExpectedSetTemplateEntity> findByKindOrderByNameAsc(ExpectedSetTemplateKind kind);
 }
 
@@ -10,6 +10,7 @@ import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
 import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
 import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecEntity;
 import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecRepository;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
 import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
 import io.pockethive.hivewatch.service.tomcat.TomcatTargetRepository;
 import io.pockethive.hivewatch.service.tomcat.expected.TomcatExpectedWebappEntity;
@@ -22,6 +23,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,6 +43,7 @@ public class TomcatExpectedWebappsSpecService {
     private final TomcatExpectedWebappSpecRepository specRepository;
     private final ExpectedSetTemplateRepository templateRepository;
     private final ExpectedSetTemplateItemRepository templateItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TomcatExpectedWebappsSpecService(
             EnvironmentRepository environmentRepository,
@@ -49,7 +52,8 @@ public class TomcatExpectedWebappsSpecService {
             TomcatExpectedWebappRepository explicitRepository,
             TomcatExpectedWebappSpecRepository specRepository,
             ExpectedSetTemplateRepository templateRepository,
-            ExpectedSetTemplateItemRepository templateItemRepository
+            ExpectedSetTemplateItemRepository templateItemRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.environmentRepository = environmentRepository;
         this.serverRepository = serverRepository;
@@ -58,6 +62,7 @@ public class TomcatExpectedWebappsSpecService {
         this.specRepository = specRepository;
         this.templateRepository = templateRepository;
         this.templateItemRepository = templateItemRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -254,6 +259,7 @@ public class TomcatExpectedWebappsSpecService {
         }
         explicitRepository.saveAll(explicitItems);
 
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return list(environmentId);
     }
 
@@ -327,6 +333,7 @@ public class TomcatExpectedWebappsSpecService {
         }
         explicitRepository.saveAll(explicitItems);
 
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return listForServer(environmentId, serverId);
     }
 
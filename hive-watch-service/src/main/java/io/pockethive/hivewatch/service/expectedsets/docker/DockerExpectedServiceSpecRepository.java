@@ -1,10 +1,14 @@
 package io.pockethive.hivewatch.service.expectedsets.docker;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface DockerExpectedServiceSpecRepository extends JpaRepository<DockerExpectedServiceSpecEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<DockerExpectedServiceSpecEntity> findByServerIdIn(List<UUID> serverIds);
 
     void deleteByServerId(UUID serverId);
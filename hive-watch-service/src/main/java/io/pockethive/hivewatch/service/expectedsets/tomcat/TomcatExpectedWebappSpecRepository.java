@@ -1,10 +1,14 @@
 package io.pockethive.hivewatch.service.expectedsets.tomcat;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface TomcatExpectedWebappSpecRepository extends JpaRepository<TomcatExpectedWebappSpecEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TomcatExpectedWebappSpecEntity> findByServerIdIn(List<UUID> serverIds);
 
     void deleteByServerId(UUID serverId);
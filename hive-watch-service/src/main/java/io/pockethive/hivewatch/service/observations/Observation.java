@@ -0,0 +1,19 @@
+package io.pockethive.hivewatch.service.observations;
+
+import io.pockethive.hivewatch.service.api.TomcatScanErrorKind;
+import java.time.Instant;
+import java.util.UUID;
+
+// One finished scan (or scan timeout) as published by the scanners; errorKind is null for a successful scan.
+public record Observation(
+        ObservationSource source,
+        UUID targetId,
+        Instant observedAt,
+        TomcatScanErrorKind errorKind,
+        Double cpuUsage,
+        Long memoryUsedBytes
+) {
+    public boolean ok() {
+        return errorKind == null;
+    }
+}
@@ -0,0 +1,127 @@
+package io.pockethive.hivewatch.service.observations;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// Bounded in-process ring buffer between the scanners and everything that reacts to scan results. Every
+// consumer tracks its own sequence and runs on its own thread. Publishing never waits for a consumer: one that
+// falls more than capacity behind skips the overwritten observations, counted as drops, so it cannot stall scans.
+@Component
+public class ObservationBus {
+    private static final Logger log = LoggerFactory.getLogger(ObservationBus.class);
+
+    private final int capacity;
+    private final AtomicReferenceArray<Slot> slots;
+    private final Object signal = new Object();
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private final Counter publishedCounter;
+    // Sequence of the newest observation; the first one published is 1.
+    private volatile long published;
+    private volatile boolean running = true;
+
+    public ObservationBus(ObservationBusProperties properties, List<ObservationConsumer> consumers, MeterRegistry meterRegistry) {
+        this.capacity = properties.capacity();
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.publishedCounter = meterRegistry.counter("hivewatch.observations.published");
+        for (ObservationConsumer consumer : consumers) {
+            Subscriber subscriber = new Subscriber(consumer, meterRegistry);
+            subscribers.add(subscriber);
+            subscriber.thread.start();
+        }
+    }
+
+    public void publish(Observation observation) {
+        synchronized (signal) {
+            long sequence = published + 1;
+            slots.set(index(sequence), new Slot(sequence, observation));
+            published = sequence;
+            signal.notifyAll();
+        }
+        publishedCounter.increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+        subscribers.forEach(s -> s.thread.interrupt());
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private record Slot(long sequence, Observation observation) {
+    }
+
+    private final class Subscriber {
+        private final ObservationConsumer consumer;
+        private final Thread thread;
+        private final Counter dropped;
+        private final Counter failed;
+        // Sequence of the last observation handed to the consumer (or skipped).
+        private volatile long position;
+
+        private Subscriber(ObservationConsumer consumer, MeterRegistry meterRegistry) {
+            this.consumer = consumer;
+            this.position = published;
+            this.dropped = meterRegistry.counter("hivewatch.observations.dropped", "consumer", consumer.name());
+            this.failed = meterRegistry.counter("hivewatch.observations.failed", "consumer", consumer.name());
+            Gauge.builder("hivewatch.observations.lag", this, s -> published - s.position)
+                    .tag("consumer", consumer.name())
+                    .register(meterRegistry);
+            this.thread = new Thread(this::run, "hw-observations-" + consumer.name());
+            this.thread.setDaemon(true);
+        }
+
+        private void run() {
+            while (running) {
+                long available;
+                synchronized (signal) {
+                    while (running && published == position) {
+                        try {
+                            signal.wait();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                    available = published;
+                }
+                long next = position + 1;
+                while (running && next <= available) {
+                    Slot slot = slots.get(index(next));
+                    if (slot.sequence() != next) {
+                        // Overwritten while we lagged: resume at the oldest observation still in the buffer.
+                        long oldest = Math.max(next + 1, published - capacity + 1);
+                        dropped.increment(oldest - next);
+                        position = oldest - 1;
+                        next = oldest;
+                        available = Math.max(available, position);
+                        continue;
+                    }
+                    deliver(slot.observation());
+                    position = next++;
+                }
+            }
+        }
+
+        private void deliver(Observation observation) {
+            try {
+                consumer.accept(observation);
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Observation consumer {} failed for targetId={}: {}", consumer.name(), observation.targetId(), e.getMessage());
+            }
+        }
+    }
+}
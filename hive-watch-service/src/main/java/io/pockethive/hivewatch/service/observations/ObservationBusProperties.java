@@ -0,0 +1,14 @@
+package io.pockethive.hivewatch.service.observations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.observations")
+public record ObservationBusProperties(
+        int capacity
+) {
+    public ObservationBusProperties {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("hivewatch.observations.capacity must be >= 1");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package io.pockethive.hivewatch.service.observations;
+
+// Beans implementing this are subscribed to the ObservationBus, each on its own thread and at its own pace.
+public interface ObservationConsumer {
+    // Metric tag and thread name suffix; must be unique.
+    String name();
+
+    void accept(Observation observation);
+}
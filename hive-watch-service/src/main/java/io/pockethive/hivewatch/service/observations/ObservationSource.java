@@ -0,0 +1,6 @@
+package io.pockethive.hivewatch.service.observations;
+
+public enum ObservationSource {
+    TOMCAT,
+    ACTUATOR
+}
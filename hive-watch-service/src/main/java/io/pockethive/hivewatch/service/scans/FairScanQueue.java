@@ -0,0 +1,114 @@
+package io.pockethive.hivewatch.service.scans;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+// Deficit round-robin over per-environment queues: every environment with pending scans gets its
+// weight's worth of dispatches per round, and never more than maxInFlight running at once.
+final class FairScanQueue<T> {
+    private final ToIntFunction<UUID> weights;
+    private final int maxInFlight;
+    private final Map<UUID, Lane<T>> lanes = new HashMap<>();
+    private final List<Lane<T>> active = new ArrayList<>();
+    private int cursor;
+    private boolean closed;
+
+    FairScanQueue(ToIntFunction<UUID> weights, int maxInFlight) {
+        this.weights = weights;
+        this.maxInFlight = maxInFlight;
+    }
+
+    synchronized void offer(UUID environmentId, T item) {
+        Lane<T> lane = lanes.computeIfAbsent(environmentId, Lane::new);
+        if (lane.queue.isEmpty()) {
+            active.add(lane);
+        }
+        lane.queue.add(item);
+        notifyAll();
+    }
+
+    synchronized Dispatch<T> take() throws InterruptedException {
+        while (true) {
+            if (closed) {
+                throw new InterruptedException("Scan queue closed");
+            }
+            Dispatch<T> next = poll();
+            if (next != null) {
+                return next;
+            }
+            wait();
+        }
+    }
+
+    synchronized void done(UUID environmentId) {
+        Lane<T> lane = lanes.get(environmentId);
+        if (lane != null) {
+            lane.inFlight--;
+            if (lane.inFlight == 0 && lane.queue.isEmpty()) {
+                lanes.remove(environmentId);
+            }
+        }
+        notifyAll();
+    }
+
+    synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    synchronized int pending() {
+        int n = 0;
+        for (Lane<T> lane : active) {
+            n += lane.queue.size();
+        }
+        return n;
+    }
+
+    private Dispatch<T> poll() {
+        // Two passes: the first may only top up deficits of lanes that ran dry.
+        int visits = active.size() * 2;
+        for (int i = 0; i < visits && !active.isEmpty(); i++) {
+            if (cursor >= active.size()) {
+                cursor = 0;
+            }
+            Lane<T> lane = active.get(cursor);
+            if (maxInFlight > 0 && lane.inFlight >= maxInFlight) {
+                cursor++;
+                continue;
+            }
+            if (lane.deficit < 1) {
+                lane.deficit += Math.max(1, weights.applyAsInt(lane.environmentId));
+                cursor++;
+                continue;
+            }
+            lane.deficit--;
+            lane.inFlight++;
+            T item = lane.queue.poll();
+            if (lane.queue.isEmpty()) {
+                lane.deficit = 0;
+                active.remove(cursor);
+            }
+            return new Dispatch<>(lane.environmentId, item);
+        }
+        return null;
+    }
+
+    record Dispatch<T>(UUID environmentId, T item) {
+    }
+
+    private static final class Lane<T> {
+        private final UUID environmentId;
+        private final ArrayDeque<T> queue = new ArrayDeque<>();
+        private int deficit;
+        private int inFlight;
+
+        private Lane(UUID environmentId) {
+            this.environmentId = environmentId;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.pockethive.hivewatch.service.scans;
+
+import io.pockethive.hivewatch.service.api.ScanCadenceDto;
+import io.pockethive.hivewatch.service.api.ScanCadenceReason;
+import io.pockethive.hivewatch.service.api.ScanDemandLevel;
+import io.pockethive.hivewatch.service.state.ScanOutcome;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// Per-target scan interval derived from recent outcomes, then tightened or relaxed by how much the
+// environment is being read. The scheduler ticks at the fast interval and only scans targets that are due.
+@Component
+public class ScanCadence {
+    private final ScanCadenceProperties properties;
+    private final ScanDemand scanDemand;
+    private final Map<UUID, TargetCadence> targets = new ConcurrentHashMap<>();
+
+    public ScanCadence(ScanCadenceProperties properties, ScanDemand scanDemand) {
+        this.properties = properties;
+        this.scanDemand = scanDemand;
+    }
+
+    public boolean isDue(UUID targetId, Instant now) {
+        TargetCadence cadence = targets.get(targetId);
+        if (cadence == null) {
+            return true;
+        }
+        long intervalMs = scanDemand.interval(cadence.intervalMs(), scanDemand.level(cadence.environmentId(), now));
+        return !cadence.lastScanAt().plusMillis(intervalMs).isAfter(now);
+    }
+
+    // The interval this node currently expects between scans of the target, demand included. Empty when the
+    // observation at scannedAt was not made here: never scanned by this node, or since scanned by another lease holder.
+    public OptionalLong expectedIntervalMs(UUID targetId, Instant scannedAt, Instant now) {
+        TargetCadence cadence = targets.get(targetId);
+        if (cadence == null || cadence.lastScanAt().isBefore(scannedAt)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(scanDemand.interval(cadence.intervalMs(), scanDemand.level(cadence.environmentId(), now)));
+    }
+
+    public void record(UUID environmentId, UUID targetId, Instant scannedAt, ScanOutcome outcome) {
+        targets.compute(targetId, (id, previous) -> next(environmentId, id, previous, scannedAt, outcome));
+    }
+
+    public void retain(Set<UUID> targetIds) {
+        targets.keySet().retainAll(targetIds);
+    }
+
+    public List<ScanCadenceDto> list(UUID environmentId) {
+        ScanDemandLevel demand = scanDemand.level(environmentId, Instant.now());
+        return targets.values().stream()
+                .filter(c -> c.environmentId().equals(environmentId))
+                .map(c -> {
+                    long intervalMs = scanDemand.interval(c.intervalMs(), demand);
+                    return new ScanCadenceDto(
+                            c.targetId(),
+                            c.lastScanAt(),
+                            c.lastScanAt().plusMillis(intervalMs),
+                            intervalMs,
+                            c.reason(),
+                            demand,
+                            c.scansSinceChange()
+                    );
+                })
+                .sorted(Comparator.comparing(ScanCadenceDto::nextDueAt))
+                .toList();
+    }
+
+    private TargetCadence next(UUID environmentId, UUID targetId, TargetCadence previous, Instant scannedAt, ScanOutcome outcome) {
+        int scansSinceChange;
+        if (!outcome.healthy()) {
+            scansSinceChange = 0;
+        } else if (previous == null) {
+            // First observation: nothing to compare against, so don't treat it as a change.
+            scansSinceChange = properties.recentChangeScans();
+        } else if (previous.fingerprint() != outcome.fingerprint() || !previous.healthy()) {
+            scansSinceChange = 0;
+        } else {
+            scansSinceChange = previous.scansSinceChange() + 1;
+        }
+
+        ScanCadenceReason reason;
+        long intervalMs;
+        if (!properties.enabled()) {
+            reason = ScanCadenceReason.FIXED;
+            intervalMs = properties.normalIntervalMs();
+        } else if (!outcome.healthy()) {
+            reason = ScanCadenceReason.UNHEALTHY;
+            intervalMs = properties.fastIntervalMs();
+        } else if (scansSinceChange < properties.recentChangeScans()) {
+            reason = ScanCadenceReason.RECENTLY_CHANGED;
+            intervalMs = properties.fastIntervalMs();
+        } else if (scansSinceChange >= properties.stableAfterScans()) {
+            reason = ScanCadenceReason.STABLE;
+            intervalMs = properties.stableIntervalMs();
+        } else {
+            reason = previous == null ? ScanCadenceReason.NEW : ScanCadenceReason.OK;
+            intervalMs = properties.normalIntervalMs();
+        }
+        return new TargetCadence(
+                environmentId,
+                targetId,
+                scannedAt,
+                intervalMs,
+                reason,
+                outcome.healthy(),
+                outcome.fingerprint(),
+                scansSinceChange
+        );
+    }
+
+    private record TargetCadence(
+            UUID environmentId,
+            UUID targetId,
+            Instant lastScanAt,
+            long intervalMs,
+            ScanCadenceReason reason,
+            boolean healthy,
+            int fingerprint,
+            int scansSinceChange
+    ) {
+    }
+}
@@ -0,0 +1,26 @@
+package io.pockethive.hivewatch.service.scans;
+
+import io.pockethive.hivewatch.service.api.ScanCadenceDto;
+import io.pockethive.hivewatch.service.security.EnvironmentVisibilityService;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class ScanCadenceController {
+    private final ScanCadence scanCadence;
+    private final EnvironmentVisibilityService environmentVisibilityService;
+
+    public ScanCadenceController(ScanCadence scanCadence, EnvironmentVisibilityService environmentVisibilityService) {
+        this.scanCadence = scanCadence;
+        this.environmentVisibilityService = environmentVisibilityService;
+    }
+
+    @GetMapping("/api/v1/environments/{environmentId}/scan-cadence")
+    public List<ScanCadenceDto> list(@PathVariable("environmentId") UUID environmentId) {
+        environmentVisibilityService.requireVisible(environmentId);
+        return scanCadence.list(environmentId);
+    }
+}
@@ -0,0 +1,22 @@
+package io.pockethive.hivewatch.service.scans;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.scans.cadence")
+public record ScanCadenceProperties(
+        boolean enabled,
+        long fastIntervalMs,
+        long normalIntervalMs,
+        long stableIntervalMs,
+        int recentChangeScans,
+        int stableAfterScans
+) {
+    public ScanCadenceProperties {
+        if (fastIntervalMs < 1 || normalIntervalMs < fastIntervalMs || stableIntervalMs < normalIntervalMs) {
+            throw new IllegalArgumentException("hivewatch.scans.cadence intervals must satisfy 1 <= fast <= normal <= stable");
+        }
+        if (recentChangeScans < 0 || stableAfterScans < recentChangeScans) {
+            throw new IllegalArgumentException("hivewatch.scans.cadence must satisfy 0 <= recent-change-scans <= stable-after-scans");
+        }
+    }
+}
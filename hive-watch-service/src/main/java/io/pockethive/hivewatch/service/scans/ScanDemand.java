@@ -0,0 +1,79 @@
+package io.pockethive.hivewatch.service.scans;
+
+import io.pockethive.hivewatch.service.api.ScanDemandLevel;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// Recent read demand per environment (dashboard views, status polls, open test runs). Watched environments
+// get tighter scan intervals and a larger share of the workers; unwatched ones drop to the idle floor.
+@Component
+public class ScanDemand {
+    private final ScanDemandProperties properties;
+    // Environments never read since startup count from here, so a restart doesn't idle everything at once.
+    private final Instant startedAt = Instant.now();
+    private final Map<UUID, Instant> lastReadAt = new ConcurrentHashMap<>();
+    // Open test runs per environment; any open run puts the environment in burst mode.
+    private final Map<UUID, Integer> bursts = new ConcurrentHashMap<>();
+
+    public ScanDemand(ScanDemandProperties properties) {
+        this.properties = properties;
+    }
+
+    public void recordRead(UUID environmentId) {
+        lastReadAt.put(environmentId, Instant.now());
+    }
+
+    public void recordReads(Collection<UUID> environmentIds) {
+        Instant now = Instant.now();
+        for (UUID environmentId : environmentIds) {
+            lastReadAt.put(environmentId, now);
+        }
+    }
+
+    public void startBurst(UUID environmentId) {
+        bursts.merge(environmentId, 1, Integer::sum);
+    }
+
+    public void endBurst(UUID environmentId) {
+        bursts.computeIfPresent(environmentId, (id, open) -> open > 1 ? open - 1 : null);
+    }
+
+    public ScanDemandLevel level(UUID environmentId, Instant now) {
+        if (bursts.containsKey(environmentId)) {
+            return ScanDemandLevel.BURST;
+        }
+        if (!properties.enabled()) {
+            return ScanDemandLevel.WARM;
+        }
+        long sinceReadMs = now.toEpochMilli() - lastReadAt.getOrDefault(environmentId, startedAt).toEpochMilli();
+        if (sinceReadMs < properties.hotWindowMs() && lastReadAt.containsKey(environmentId)) {
+            return ScanDemandLevel.HOT;
+        }
+        return sinceReadMs >= properties.idleAfterMs() ? ScanDemandLevel.IDLE : ScanDemandLevel.WARM;
+    }
+
+    public long interval(long healthIntervalMs, ScanDemandLevel level) {
+        return switch (level) {
+            case BURST -> Math.min(healthIntervalMs, properties.burstIntervalMs());
+            case HOT -> Math.min(healthIntervalMs, properties.hotMaxIntervalMs());
+            case IDLE -> Math.max(healthIntervalMs, properties.idleIntervalMs());
+            case WARM -> healthIntervalMs;
+        };
+    }
+
+    public int weight(UUID environmentId) {
+        return switch (level(environmentId, Instant.now())) {
+            case BURST, HOT -> properties.hotWeight();
+            default -> 1;
+        };
+    }
+
+    public void retain(Set<UUID> environmentIds) {
+        lastReadAt.keySet().retainAll(environmentIds);
+    }
+}
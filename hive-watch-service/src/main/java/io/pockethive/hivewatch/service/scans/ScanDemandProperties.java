@@ -0,0 +1,26 @@
+package io.pockethive.hivewatch.service.scans;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.scans.demand")
+public record ScanDemandProperties(
+        boolean enabled,
+        long hotWindowMs,
+        long idleAfterMs,
+        long burstIntervalMs,
+        long hotMaxIntervalMs,
+        long idleIntervalMs,
+        int hotWeight
+) {
+    public ScanDemandProperties {
+        if (hotWindowMs < 1 || idleAfterMs < hotWindowMs) {
+            throw new IllegalArgumentException("hivewatch.scans.demand windows must satisfy 1 <= hot-window <= idle-after");
+        }
+        if (burstIntervalMs < 1 || hotMaxIntervalMs < burstIntervalMs || idleIntervalMs < hotMaxIntervalMs) {
+            throw new IllegalArgumentException("hivewatch.scans.demand intervals must satisfy 1 <= burst <= hot-max <= idle");
+        }
+        if (hotWeight < 1) {
+            throw new IllegalArgumentException("hivewatch.scans.demand.hot-weight must be >= 1");
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.pockethive.hivewatch.service.scans;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// Runs target scans on dedicated workers so the watchdog can interrupt one without touching the scheduler thread.
+// Workers pull from a fair queue, so one large environment cannot starve the others.
+@Component
+public class ScanExecutor {
+    private static final Logger log = LoggerFactory.getLogger(ScanExecutor.class);
+
+    private final FairScanQueue<ScanHandle> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final ScanWatchdog watchdog;
+
+    public ScanExecutor(ScanSchedulerProperties properties, ScanWatchdog watchdog, ScanDemand scanDemand) {
+        this.watchdog = watchdog;
+        Map<UUID, Integer> weights = properties.environmentWeights();
+        this.queue = new FairScanQueue<>(
+                id -> weights.getOrDefault(id, 1) * scanDemand.weight(id),
+                properties.maxInFlightPerEnvironment()
+        );
+        for (int i = 1; i <= Math.max(1, properties.threads()); i++) {
+            Thread t = new Thread(this::work, "hw-scan-" + i);
+            t.setDaemon(true);
+            t.start();
+            workers.add(t);
+        }
+    }
+
+    public ScanHandle submit(UUID environmentId, UUID targetId, Runnable scan, Consumer<String> onTimeout) {
+        ScanHandle handle = new ScanHandle(environmentId, targetId, scan, onTimeout);
+        queue.offer(environmentId, handle);
+        return handle;
+    }
+
+    public int pending() {
+        return queue.pending();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        queue.close();
+        workers.forEach(Thread::interrupt);
+    }
+
+    private void work() {
+        while (true) {
+            FairScanQueue.Dispatch<ScanHandle> next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                next.item().run();
+            } finally {
+                // Clear a deadline interrupt aimed at the finished scan before taking the next one.
+                Thread.interrupted();
+                queue.done(next.environmentId());
+            }
+        }
+    }
+
+    public final class ScanHandle extends FutureTask<Void> {
+        private final UUID environmentId;
+        private final UUID targetId;
+        private final Consumer<String> onTimeout;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private volatile boolean started;
+
+        private ScanHandle(UUID environmentId, UUID targetId, Runnable scan, Consumer<String> onTimeout) {
+            super(scan, null);
+            this.environmentId = environmentId;
+            this.targetId = targetId;
+            this.onTimeout = onTimeout;
+        }
+
+        public UUID environmentId() {
+            return environmentId;
+        }
+
+        public UUID targetId() {
+            return targetId;
+        }
+
+        public CompletableFuture<Void> completion() {
+            return completion;
+        }
+
+        // Interrupts the scan (or drops it if still queued) and records the timeout in its place.
+        public boolean timeout(String reason) {
+            if (!cancel(true)) {
+                return false;
+            }
+            try {
+                onTimeout.accept(reason);
+            } catch (RuntimeException e) {
+                log.warn("Failed to record scan timeout for targetId={}: {}", targetId, e.getMessage());
+            }
+            return true;
+        }
+
+        // In-flight tracking ends here rather than in done(): cancel(true) runs done() immediately, while a scan that
+        // ignores the interrupt keeps its worker and must stay visible to the watchdog until it actually returns.
+        @Override
+        public void run() {
+            started = true;
+            watchdog.scanStarted(this);
+            try {
+                super.run();
+            } finally {
+                watchdog.scanFinished(this);
+            }
+        }
+
+        // Called once on normal completion, failure or cancellation (even before the task started).
+        @Override
+        protected void done() {
+            if (!started) {
+                watchdog.scanFinished(this);
+            }
+            if (isCancelled()) {
+                completion.completeExceptionally(new CancellationException("Scan cancelled: " + targetId));
+                return;
+            }
+            try {
+                get();
+                completion.complete(null);
+            } catch (ExecutionException e) {
+                completion.completeExceptionally(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                completion.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.pockethive.hivewatch.service.scans;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// One shared client per connect timeout instead of one per scan: each HttpClient owns a selector thread and its
+// own connection pool, so sharing keeps thread count flat and lets scans reuse keep-alive connections.
+public final class ScanHttpClients {
+    private static final Map<Integer, HttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+    private ScanHttpClients() {
+    }
+
+    public static HttpClient forConnectTimeout(int connectTimeoutMs) {
+        return CLIENTS.computeIfAbsent(connectTimeoutMs, ms -> HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(ms))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build());
+    }
+}
@@ -0,0 +1,19 @@
+package io.pockethive.hivewatch.service.scans;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.scans.leases")
+public record ScanLeaseProperties(
+        boolean enabled,
+        String nodeId,
+        long ttlMs
+) {
+    public ScanLeaseProperties {
+        if (enabled && (nodeId == null || nodeId.isBlank())) {
+            throw new IllegalArgumentException("hivewatch.scans.leases.node-id is required when leases are enabled");
+        }
+        if (ttlMs < 1) {
+            throw new IllegalArgumentException("hivewatch.scans.leases.ttl-ms must be >= 1");
+        }
+    }
+}
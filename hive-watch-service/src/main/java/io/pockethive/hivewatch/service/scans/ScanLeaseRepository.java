@@ -0,0 +1,114 @@
+package io.pockethive.hivewatch.service.scans;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ScanLeaseRepository {
+    private static final String HEARTBEAT_SQL = """
+            insert into hw_scan_nodes(node_id, heartbeat_at) values (:nodeId, now())
+            on conflict (node_id) do update set heartbeat_at = excluded.heartbeat_at
+            """;
+
+    private static final String PRUNE_NODES_SQL = """
+            delete from hw_scan_nodes where heartbeat_at < now() - :ttlMs * interval '1 millisecond'
+            """;
+
+    private static final String LIVE_NODES_SQL = """
+            select count(*) from hw_scan_nodes where heartbeat_at >= now() - :ttlMs * interval '1 millisecond'
+            """;
+
+    private static final String SYNC_INSERT_SQL = """
+            insert into hw_scan_leases(target_id)
+            select id from hw_tomcat_targets
+            union all
+            select id from hw_actuator_targets
+            on conflict (target_id) do nothing
+            """;
+
+    private static final String SYNC_DELETE_SQL = """
+            delete from hw_scan_leases l
+            where not exists (select 1 from hw_tomcat_targets t where t.id = l.target_id)
+              and not exists (select 1 from hw_actuator_targets a where a.id = l.target_id)
+            """;
+
+    private static final String COUNT_SQL = "select count(*) from hw_scan_leases";
+
+    // Above its fair share a node hands back its highest target ids, so a joining node picks them up.
+    private static final String RELEASE_EXCESS_SQL = """
+            update hw_scan_leases set owner = null, lease_until = null, updated_at = now()
+            where target_id in (
+              select target_id from hw_scan_leases where owner = :nodeId
+              order by target_id
+              offset :share
+            )
+            """;
+
+    private static final String RENEW_SQL = """
+            update hw_scan_leases
+            set lease_until = now() + :ttlMs * interval '1 millisecond', updated_at = now()
+            where owner = :nodeId
+            returning target_id
+            """;
+
+    private static final String CLAIM_SQL = """
+            update hw_scan_leases l
+            set owner = :nodeId, lease_until = now() + :ttlMs * interval '1 millisecond', updated_at = now()
+            from (
+              select target_id from hw_scan_leases
+              where owner is null or lease_until < now()
+              order by target_id
+              limit :limit
+              for update skip locked
+            ) c
+            where l.target_id = c.target_id
+            returning l.target_id
+            """;
+
+    private static final String RELEASE_ALL_SQL = """
+            update hw_scan_leases set owner = null, lease_until = null, updated_at = now()
+            where owner = :nodeId
+            """;
+
+    private static final String DELETE_NODE_SQL = "delete from hw_scan_nodes where node_id = :nodeId";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ScanLeaseRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public int heartbeat(String nodeId, long ttlMs) {
+        jdbc.update(HEARTBEAT_SQL, Map.of("nodeId", nodeId));
+        jdbc.update(PRUNE_NODES_SQL, Map.of("ttlMs", ttlMs));
+        Integer live = jdbc.queryForObject(LIVE_NODES_SQL, Map.of("ttlMs", ttlMs), Integer.class);
+        return live == null ? 1 : Math.max(1, live);
+    }
+
+    public int syncTargets() {
+        jdbc.update(SYNC_INSERT_SQL, Map.of());
+        jdbc.update(SYNC_DELETE_SQL, Map.of());
+        Integer total = jdbc.queryForObject(COUNT_SQL, Map.of(), Integer.class);
+        return total == null ? 0 : total;
+    }
+
+    public void releaseExcess(String nodeId, int share) {
+        jdbc.update(RELEASE_EXCESS_SQL, Map.of("nodeId", nodeId, "share", share));
+    }
+
+    public List<UUID> renew(String nodeId, long ttlMs) {
+        return jdbc.queryForList(RENEW_SQL, Map.of("nodeId", nodeId, "ttlMs", ttlMs), UUID.class);
+    }
+
+    public List<UUID> claim(String nodeId, long ttlMs, int limit) {
+        return jdbc.queryForList(CLAIM_SQL, Map.of("nodeId", nodeId, "ttlMs", ttlMs, "limit", limit), UUID.class);
+    }
+
+    public void releaseAll(String nodeId) {
+        jdbc.update(RELEASE_ALL_SQL, Map.of("nodeId", nodeId));
+        jdbc.update(DELETE_NODE_SQL, Map.of("nodeId", nodeId));
+    }
+}
@@ -0,0 +1,60 @@
+package io.pockethive.hivewatch.service.scans;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Shards targets across HiveWatch nodes through Postgres leases: each node keeps renewing what it owns,
+// gives back anything above its fair share and claims free or expired leases with SKIP LOCKED.
+@Component
+public class ScanLeases {
+    private static final Logger log = LoggerFactory.getLogger(ScanLeases.class);
+
+    private final ScanLeaseProperties properties;
+    private final ScanLeaseRepository scanLeaseRepository;
+
+    public ScanLeases(ScanLeaseProperties properties, ScanLeaseRepository scanLeaseRepository) {
+        this.properties = properties;
+        this.scanLeaseRepository = scanLeaseRepository;
+    }
+
+    // Called once per scheduler tick; the returned predicate tells which targets this node may scan.
+    @Transactional
+    public Predicate<UUID> claim() {
+        if (!properties.enabled()) {
+            return id -> true;
+        }
+        String nodeId = properties.nodeId();
+        int liveNodes = scanLeaseRepository.heartbeat(nodeId, properties.ttlMs());
+        int total = scanLeaseRepository.syncTargets();
+        int share = (total + liveNodes - 1) / liveNodes;
+
+        scanLeaseRepository.releaseExcess(nodeId, share);
+        Set<UUID> owned = new HashSet<>(scanLeaseRepository.renew(nodeId, properties.ttlMs()));
+        if (owned.size() < share) {
+            List<UUID> claimed = scanLeaseRepository.claim(nodeId, properties.ttlMs(), share - owned.size());
+            owned.addAll(claimed);
+        }
+        log.debug("Scan leases for node {}: {} of {} targets across {} nodes", nodeId, owned.size(), total, liveNodes);
+        return owned::contains;
+    }
+
+    @PreDestroy
+    void release() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            scanLeaseRepository.releaseAll(properties.nodeId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to release scan leases for node {}: {}", properties.nodeId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.pockethive.hivewatch.service.scans;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.pockethive.hivewatch.service.observations.Observation;
+import io.pockethive.hivewatch.service.observations.ObservationConsumer;
+import org.springframework.stereotype.Component;
+
+// Scan results per source and outcome (OK or the error kind), fed from the observation bus.
+@Component
+public class ScanResultMetrics implements ObservationConsumer {
+    private final MeterRegistry meterRegistry;
+
+    public ScanResultMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String name() {
+        return "scan-metrics";
+    }
+
+    @Override
+    public void accept(Observation observation) {
+        meterRegistry.counter(
+                "hivewatch.scans.results",
+                "source", observation.source().name(),
+                "result", observation.ok() ? "OK" : observation.errorKind().name()
+        ).increment();
+    }
+}
@@ -1,12 +1,22 @@
 package io.pockethive.hivewatch.service.scans;
 
+import java.util.Map;
+import java.util.UUID;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "hivewatch.scans.scheduler")
 public record ScanSchedulerProperties(
         boolean enabled,
         long fixedDelayMs,
-        long initialDelayMs
+        long initialDelayMs,
+        int threads,
+        long scanDeadlineMs,
+        long watchdogCheckMs,
+        long cycleBudgetMs,
+        int maxInFlightPerEnvironment,
+        Map<UUID, Integer> environmentWeights
 ) {
+    public ScanSchedulerProperties {
+        environmentWeights = environmentWeights == null ? Map.of() : Map.copyOf(environmentWeights);
+    }
 }
-
@@ -1,11 +1,30 @@
 package io.pockethive.hivewatch.service.scans;
 
 import io.pockethive.hivewatch.service.actuator.ActuatorScanService;
-import io.pockethive.hivewatch.service.environments.EnvironmentRepository;
+import io.pockethive.hivewatch.service.actuator.ActuatorTargetEntity;
+import io.pockethive.hivewatch.service.state.ScanOutcome;
+import io.pockethive.hivewatch.service.state.ScanStateChangedEvent;
 import io.pockethive.hivewatch.service.tomcat.TomcatScanService;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
+import io.pockethive.hivewatch.service.topology.EnvironmentTopology;
+import io.pockethive.hivewatch.service.topology.TopologySnapshot;
+import io.pockethive.hivewatch.service.topology.TopologySnapshots;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -14,21 +33,39 @@ public class ScanSchedulerService {
     private static final Logger log = LoggerFactory.getLogger(ScanSchedulerService.class);
 
     private final ScanSchedulerProperties properties;
-    private final EnvironmentRepository environmentRepository;
+    private final TopologySnapshots topologySnapshots;
     private final TomcatScanService tomcatScanService;
     private final ActuatorScanService actuatorScanService;
+    private final ScanExecutor scanExecutor;
+    private final ScanWatchdog scanWatchdog;
+    private final ScanCadence scanCadence;
+    private final ScanDemand scanDemand;
+    private final ScanLeases scanLeases;
+    private final ApplicationEventPublisher eventPublisher;
     private final AtomicBoolean running = new AtomicBoolean(false);
 
     public ScanSchedulerService(
             ScanSchedulerProperties properties,
-            EnvironmentRepository environmentRepository,
+            TopologySnapshots topologySnapshots,
             TomcatScanService tomcatScanService,
-            ActuatorScanService actuatorScanService
+            ActuatorScanService actuatorScanService,
+            ScanExecutor scanExecutor,
+            ScanWatchdog scanWatchdog,
+            ScanCadence scanCadence,
+            ScanDemand scanDemand,
+            ScanLeases scanLeases,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.properties = properties;
-        this.environmentRepository = environmentRepository;
+        this.topologySnapshots = topologySnapshots;
         this.tomcatScanService = tomcatScanService;
         this.actuatorScanService = actuatorScanService;
+        this.scanExecutor = scanExecutor;
+        this.scanWatchdog = scanWatchdog;
+        this.scanCadence = scanCadence;
+        this.scanDemand = scanDemand;
+        this.scanLeases = scanLeases;
+        this.eventPublisher = eventPublisher;
     }
 
     @Scheduled(
@@ -40,24 +77,130 @@ public class ScanSchedulerService {
             return;
         }
         if (!running.compareAndSet(false, true)) {
+            scanWatchdog.cycleSkipped();
             return;
         }
+        Instant started = Instant.now();
+        scanWatchdog.cycleStarted(started);
         try {
-            environmentRepository.findAll().forEach(env -> {
-                try {
-                    tomcatScanService.scanEnvironment(env.getId());
-                } catch (RuntimeException e) {
-                    log.warn("Scheduled Tomcat scan failed for envId={}: {}", env.getId(), e.getMessage());
-                }
-                try {
-                    actuatorScanService.scanEnvironment(env.getId());
-                } catch (RuntimeException e) {
-                    log.warn("Scheduled actuator scan failed for envId={}: {}", env.getId(), e.getMessage());
-                }
-            });
+            Predicate<UUID> leased;
+            TopologySnapshot topology;
+            try {
+                leased = scanLeases.claim();
+                topology = topologySnapshots.current();
+            } catch (RuntimeException e) {
+                log.warn("Scan cycle setup failed; skipping cycle: {}", e.getMessage());
+                return;
+            }
+            List<ScanExecutor.ScanHandle> handles = new ArrayList<>();
+            List<CompletableFuture<Void>> environments = new ArrayList<>();
+            Set<UUID> knownEnvironments = new HashSet<>();
+            Set<UUID> knownTargets = new HashSet<>();
+            for (EnvironmentTopology env : topology.environments().values()) {
+                knownEnvironments.add(env.id());
+                environments.add(scanEnvironment(env, started, leased, handles, knownTargets));
+            }
+            scanCadence.retain(knownTargets);
+            tomcatScanService.retainPlans(knownTargets);
+            actuatorScanService.retainPlans(knownTargets);
+            scanDemand.retain(knownEnvironments);
+            awaitWithinBudget(started, handles, CompletableFuture.allOf(environments.toArray(CompletableFuture[]::new)));
         } finally {
+            scanWatchdog.cycleFinished(Instant.now());
             running.set(false);
         }
     }
-}
 
+    // Bounds end-to-end freshness: whatever is still queued or running at the budget is cancelled.
+    private void awaitWithinBudget(Instant started, List<ScanExecutor.ScanHandle> handles, CompletableFuture<Void> cycle) {
+        long remainingMs = properties.cycleBudgetMs() - Duration.between(started, Instant.now()).toMillis();
+        try {
+            cycle.get(Math.max(0, remainingMs), TimeUnit.MILLISECONDS);
+            return;
+        } catch (TimeoutException e) {
+            int timedOut = 0;
+            for (ScanExecutor.ScanHandle handle : handles) {
+                if (!handle.isDone() && handle.timeout("Scan cycle budget of " + properties.cycleBudgetMs() + " ms exceeded")) {
+                    scanWatchdog.scanTimedOut();
+                    timedOut++;
+                }
+            }
+            log.warn("Scan cycle budget of {} ms exceeded; cancelled {} pending scans", properties.cycleBudgetMs(), timedOut);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            log.warn("Scan cycle failed: {}", e.getMessage());
+            return;
+        }
+        cycle.join();
+    }
+
+    // Only targets leased to this node and due per their cadence get scanned; the rest keep their last observation.
+    private CompletableFuture<Void> scanEnvironment(
+            EnvironmentTopology env,
+            Instant now,
+            Predicate<UUID> leased,
+            List<ScanExecutor.ScanHandle> handles,
+            Set<UUID> known
+    ) {
+        UUID environmentId = env.id();
+        List<CompletableFuture<Void>> scans = new ArrayList<>();
+        try {
+            for (TomcatTargetEntity target : env.tomcatTargets()) {
+                if (!leased.test(target.getId())) {
+                    continue;
+                }
+                known.add(target.getId());
+                if (!scanCadence.isDue(target.getId(), now)) {
+                    continue;
+                }
+                ScanExecutor.ScanHandle handle = scanExecutor.submit(
+                        environmentId,
+                        target.getId(),
+                        () -> scanCadence.record(environmentId, target.getId(), Instant.now(), tomcatScanService.scan(target)),
+                        reason -> {
+                            tomcatScanService.recordTimeout(target, reason);
+                            scanCadence.record(environmentId, target.getId(), Instant.now(), ScanOutcome.TIMEOUT);
+                        }
+                );
+                handles.add(handle);
+                scans.add(track(environmentId, target.getId(), "Tomcat", handle.completion()));
+            }
+            for (ActuatorTargetEntity target : env.actuatorTargets()) {
+                if (!leased.test(target.getId())) {
+                    continue;
+                }
+                known.add(target.getId());
+                if (!scanCadence.isDue(target.getId(), now)) {
+                    continue;
+                }
+                ScanExecutor.ScanHandle handle = scanExecutor.submit(
+                        environmentId,
+                        target.getId(),
+                        () -> scanCadence.record(environmentId, target.getId(), Instant.now(), actuatorScanService.scan(target)),
+                        reason -> {
+                            actuatorScanService.recordTimeout(target, reason);
+                            scanCadence.record(environmentId, target.getId(), Instant.now(), ScanOutcome.TIMEOUT);
+                        }
+                );
+                handles.add(handle);
+                scans.add(track(environmentId, target.getId(), "actuator", handle.completion()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Scheduled scan planning failed for envId={}: {}", environmentId, e.getMessage());
+        }
+        if (scans.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(scans.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> eventPublisher.publishEvent(new ScanStateChangedEvent(environmentId)));
+    }
+
+    private static CompletableFuture<Void> track(UUID environmentId, UUID targetId, String kind, CompletableFuture<Void> scan) {
+        return scan.exceptionally(e -> {
+            log.warn("Scheduled {} scan failed for envId={} targetId={}: {}", kind, environmentId, targetId, e.getMessage());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,174 @@
+package io.pockethive.hivewatch.service.scans;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.pockethive.hivewatch.service.actuator.ActuatorTargetScanStateEntity;
+import io.pockethive.hivewatch.service.datasource.ScannerDataSource;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetScanStateEntity;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+// Single-statement upserts on the scanner pool. A target deleted while its scan was in flight is skipped
+// instead of failing on the foreign key. Tomcat webapp sets are written once per distinct content; after that
+// a scan only writes the set's hash.
+@Repository
+public class ScanStateWriter {
+    private static final Logger log = LoggerFactory.getLogger(ScanStateWriter.class);
+    private static final int MAX_KNOWN_WEBAPP_SETS = 10_000;
+
+    private static final String TOMCAT_UPSERT_SQL = """
+            with webapp_set as (
+              insert into hw_tomcat_webapp_sets(hash, webapps)
+              select :webappSetHash, cast(:webapps as jsonb)
+              where cast(:webapps as text) is not null
+              on conflict (hash) do nothing
+            )
+            insert into hw_tomcat_target_scan_state(
+              target_id, scanned_at, outcome_kind, error_kind, error_message, tomcat_version, java_version, os,
+              webapp_set_hash
+            )
+            select :targetId, :scannedAt, :outcomeKind, :errorKind, :errorMessage, :tomcatVersion, :javaVersion, :os,
+                   :webappSetHash
+            where exists (select 1 from hw_tomcat_targets t where t.id = :targetId)
+            on conflict (target_id) do update set
+              scanned_at = excluded.scanned_at,
+              outcome_kind = excluded.outcome_kind,
+              error_kind = excluded.error_kind,
+              error_message = excluded.error_message,
+              tomcat_version = excluded.tomcat_version,
+              java_version = excluded.java_version,
+              os = excluded.os,
+              webapp_set_hash = excluded.webapp_set_hash
+            """;
+
+    private static final String PRUNE_WEBAPP_SETS_SQL = """
+            delete from hw_tomcat_webapp_sets ws
+            where not exists (select 1 from hw_tomcat_target_scan_state st where st.webapp_set_hash = ws.hash)
+            """;
+
+    private static final String ACTUATOR_UPSERT_SQL = """
+            insert into hw_actuator_target_scan_state(
+              target_id, scanned_at, outcome_kind, error_kind, error_message,
+              health_status, app_name, build_version, cpu_usage, memory_used_bytes
+            )
+            select :targetId, :scannedAt, :outcomeKind, :errorKind, :errorMessage,
+                   :healthStatus, :appName, :buildVersion, :cpuUsage, :memoryUsedBytes
+            where exists (select 1 from hw_actuator_targets t where t.id = :targetId)
+            on conflict (target_id) do update set
+              scanned_at = excluded.scanned_at,
+              outcome_kind = excluded.outcome_kind,
+              error_kind = excluded.error_kind,
+              error_message = excluded.error_message,
+              health_status = excluded.health_status,
+              app_name = excluded.app_name,
+              build_version = excluded.build_version,
+              cpu_usage = excluded.cpu_usage,
+              memory_used_bytes = excluded.memory_used_bytes
+            """;
+
+    private final ScannerDataSource scannerDataSource;
+    private final ObjectMapper objectMapper;
+    // Sets this node already stored; may be stale after a prune, which the upsert detects and repairs.
+    private final Set<String> knownWebappSets = ConcurrentHashMap.newKeySet();
+
+    public ScanStateWriter(ScannerDataSource scannerDataSource, ObjectMapper objectMapper) {
+        this.scannerDataSource = scannerDataSource;
+        this.objectMapper = objectMapper;
+    }
+
+    public void upsert(TomcatTargetScanStateEntity state) {
+        String hash = state.getWebappSetHash();
+        if (knownWebappSets.contains(hash)) {
+            try {
+                upsert(state, null);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // The set was pruned since this node stored it; write it again below.
+                knownWebappSets.remove(hash);
+            }
+        }
+        String webapps;
+        try {
+            webapps = objectMapper.writeValueAsString(state.getWebapps());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize webapps for target " + state.getTargetId(), e);
+        }
+        upsert(state, webapps);
+        if (knownWebappSets.size() >= MAX_KNOWN_WEBAPP_SETS) {
+            knownWebappSets.clear();
+        }
+        knownWebappSets.add(hash);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${hivewatch.scans.webapp-set-prune-ms}",
+            initialDelayString = "${hivewatch.scans.webapp-set-prune-ms}"
+    )
+    public void pruneWebappSets() {
+        try {
+            int pruned = scannerDataSource.jdbc().update(PRUNE_WEBAPP_SETS_SQL, Map.of());
+            if (pruned > 0) {
+                log.info("Pruned {} unreferenced Tomcat webapp sets", pruned);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Pruning Tomcat webapp sets failed: {}", e.getMessage());
+        }
+    }
+
+    private void upsert(TomcatTargetScanStateEntity state, String webapps) {
+        scannerDataSource.jdbc().update(TOMCAT_UPSERT_SQL, common(
+                state.getTargetId(),
+                state.getScannedAt(),
+                state.getOutcomeKind(),
+                state.getErrorKind(),
+                state.getErrorMessage()
+        )
+                .addValue("tomcatVersion", state.getTomcatVersion())
+                .addValue("javaVersion", state.getJavaVersion())
+                .addValue("os", state.getOs())
+                .addValue("webappSetHash", state.getWebappSetHash())
+                .addValue("webapps", webapps, Types.VARCHAR));
+    }
+
+    public void upsert(ActuatorTargetScanStateEntity state) {
+        scannerDataSource.jdbc().update(ACTUATOR_UPSERT_SQL, common(
+                state.getTargetId(),
+                state.getScannedAt(),
+                state.getOutcomeKind(),
+                state.getErrorKind(),
+                state.getErrorMessage()
+        )
+                .addValue("healthStatus", state.getHealthStatus())
+                .addValue("appName", state.getAppName())
+                .addValue("buildVersion", state.getBuildVersion())
+                .addValue("cpuUsage", state.getCpuUsage())
+                .addValue("memoryUsedBytes", state.getMemoryUsedBytes()));
+    }
+
+    private static MapSqlParameterSource common(
+            UUID targetId,
+            Instant scannedAt,
+            Enum<?> outcomeKind,
+            Enum<?> errorKind,
+            String errorMessage
+    ) {
+        return new MapSqlParameterSource()
+                .addValue("targetId", targetId)
+                .addValue("scannedAt", Timestamp.from(scannedAt))
+                .addValue("outcomeKind", outcomeKind.name())
+                .addValue("errorKind", errorKind == null ? null : errorKind.name())
+                .addValue("errorMessage", errorMessage);
+    }
+}
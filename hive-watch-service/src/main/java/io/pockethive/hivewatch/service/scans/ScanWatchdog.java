@@ -0,0 +1,189 @@
+package io.pockethive.hivewatch.service.scans;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Tracks scan cycles and in-flight target scans; interrupts scans past the hard deadline. Checks run on a thread of
+// their own: the scan cycle holds a scheduler thread while it waits out its budget, which is when they matter most.
+@Component
+public class ScanWatchdog implements HealthIndicator {
+    private static final Logger log = LoggerFactory.getLogger(ScanWatchdog.class);
+    private static final int LAG_DOWN_FACTOR = 10;
+
+    private final ScanSchedulerProperties properties;
+    private final Map<ScanExecutor.ScanHandle, Instant> inFlight = new ConcurrentHashMap<>();
+    private final Instant startedAt = Instant.now();
+    private final Counter overruns;
+    private final Counter skipped;
+    private final Counter cancelled;
+    private final Timer cycleTimer;
+
+    private volatile Instant cycleStartedAt;
+    private volatile Instant lastCycleFinishedAt;
+    private volatile Duration lastCycleDuration;
+    private volatile ScheduledExecutorService checker;
+
+    public ScanWatchdog(ScanSchedulerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.overruns = meterRegistry.counter("hivewatch.scans.cycle.overruns");
+        this.skipped = meterRegistry.counter("hivewatch.scans.cycle.skipped");
+        this.cancelled = meterRegistry.counter("hivewatch.scans.cancelled");
+        this.cycleTimer = meterRegistry.timer("hivewatch.scans.cycle");
+        Gauge.builder("hivewatch.scans.inflight", inFlight, Map::size).register(meterRegistry);
+        Gauge.builder("hivewatch.scans.scheduler.lag", this, w -> w.schedulerLag(Instant.now()).toMillis() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (checker != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hw-scan-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        long periodMs = Math.max(1, properties.watchdogCheckMs());
+        executor.scheduleWithFixedDelay(this::checkSafely, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        checker = executor;
+    }
+
+    @PreDestroy
+    synchronized void stop() {
+        if (checker != null) {
+            checker.shutdownNow();
+            checker = null;
+        }
+    }
+
+    public void cycleStarted(Instant now) {
+        cycleStartedAt = now;
+    }
+
+    public void cycleFinished(Instant now) {
+        Instant started = cycleStartedAt;
+        cycleStartedAt = null;
+        lastCycleFinishedAt = now;
+        if (started == null) {
+            return;
+        }
+        Duration duration = Duration.between(started, now);
+        lastCycleDuration = duration;
+        cycleTimer.record(duration);
+        if (duration.toMillis() > properties.fixedDelayMs()) {
+            overruns.increment();
+            log.warn("Scan cycle overran: took {} ms, scheduler delay is {} ms", duration.toMillis(), properties.fixedDelayMs());
+        }
+    }
+
+    public void cycleSkipped() {
+        skipped.increment();
+    }
+
+    void scanStarted(ScanExecutor.ScanHandle scan) {
+        inFlight.put(scan, Instant.now());
+    }
+
+    void scanFinished(ScanExecutor.ScanHandle scan) {
+        inFlight.remove(scan);
+    }
+
+    public void scanTimedOut() {
+        cancelled.increment();
+    }
+
+    // An exception escaping a fixed-delay task would cancel every later check.
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.warn("Scan watchdog check failed: {}", e.getMessage());
+        }
+    }
+
+    public void check() {
+        Instant deadline = Instant.now().minusMillis(properties.scanDeadlineMs());
+        inFlight.forEach((scan, startedAt) -> {
+            if (startedAt.isBefore(deadline) && scan.timeout("Scan exceeded " + properties.scanDeadlineMs() + " ms deadline")) {
+                cancelled.increment();
+                log.warn("Interrupted scan past {} ms deadline: envId={} targetId={}",
+                        properties.scanDeadlineMs(), scan.environmentId(), scan.targetId());
+            }
+        });
+    }
+
+    @Override
+    public Health health() {
+        Instant now = Instant.now();
+        Duration lag = schedulerLag(now);
+        Duration oldest = oldestInFlight(now);
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("cycleRunning", cycleStartedAt != null);
+        details.put("lastCycleFinishedAt", lastCycleFinishedAt);
+        details.put("lastCycleDurationMs", lastCycleDuration == null ? null : lastCycleDuration.toMillis());
+        details.put("schedulerLagMs", lag.toMillis());
+        details.put("inFlight", inFlight.size());
+        details.put("oldestInFlightMs", oldest.toMillis());
+        details.put("overruns", (long) overruns.count());
+        details.put("skippedCycles", (long) skipped.count());
+        details.put("cancelledScans", (long) cancelled.count());
+
+        if (!properties.enabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        // A scan that outlives twice its deadline ignored the interrupt and is holding a worker.
+        boolean wedged = oldest.toMillis() > 2 * properties.scanDeadlineMs();
+        boolean stalled = lag.toMillis() > LAG_DOWN_FACTOR * properties.fixedDelayMs();
+        Health.Builder builder = wedged || stalled ? Health.down() : Health.up();
+        return builder.withDetails(details).build();
+    }
+
+    // How far behind schedule the next cycle is; zero while a cycle is running or not yet due.
+    Duration schedulerLag(Instant now) {
+        if (!properties.enabled()) {
+            return Duration.ZERO;
+        }
+        Instant running = cycleStartedAt;
+        if (running != null) {
+            Duration overdue = Duration.between(running, now).minusMillis(properties.fixedDelayMs());
+            return overdue.isNegative() ? Duration.ZERO : overdue;
+        }
+        Instant last = lastCycleFinishedAt;
+        Instant due = last == null
+                ? startedAt.plusMillis(properties.initialDelayMs())
+                : last.plusMillis(properties.fixedDelayMs());
+        Duration lag = Duration.between(due, now);
+        return lag.isNegative() ? Duration.ZERO : lag;
+    }
+
+    private Duration oldestInFlight(Instant now) {
+        Instant oldest = null;
+        for (Instant startedAt : inFlight.values()) {
+            if (oldest == null || startedAt.isBefore(oldest)) {
+                oldest = startedAt;
+            }
+        }
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, now);
+    }
+}
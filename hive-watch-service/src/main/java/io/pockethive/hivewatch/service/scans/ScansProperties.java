@@ -4,7 +4,13 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "hivewatch.scans")
 public record ScansProperties(
-        boolean manualEnabled
+        boolean manualEnabled,
+        long webappSetPruneMs
 ) {
+    public ScansProperties {
+        if (webappSetPruneMs < 1) {
+            throw new IllegalArgumentException("hivewatch.scans.webapp-set-prune-ms must be >= 1");
+        }
+    }
 }
 
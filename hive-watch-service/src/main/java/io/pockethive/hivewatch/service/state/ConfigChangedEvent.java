@@ -0,0 +1,17 @@
+package io.pockethive.hivewatch.service.state;
+
+import java.util.UUID;
+
+// remote = received from another node through the invalidation bus, so it must not be re-broadcast.
+public record ConfigChangedEvent(
+        UUID environmentId,
+        boolean remote
+) {
+    public ConfigChangedEvent(UUID environmentId) {
+        this(environmentId, false);
+    }
+
+    public static ConfigChangedEvent global() {
+        return new ConfigChangedEvent(null);
+    }
+}
@@ -0,0 +1,7 @@
+package io.pockethive.hivewatch.service.state;
+
+public record EnvironmentRevision(
+        long config,
+        long state
+) {
+}
@@ -0,0 +1,36 @@
+package io.pockethive.hivewatch.service.state;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Bumped after commit only, so a reader seeing a new revision also sees the new rows. Runs ahead of other
+// listeners of the same events so they never read observations through a stale revision.
+@Component
+public class EnvironmentRevisions {
+    private final AtomicLong configRevision = new AtomicLong();
+    private final Map<UUID, AtomicLong> stateRevisions = new ConcurrentHashMap<>();
+
+    public EnvironmentRevision current(UUID environmentId) {
+        AtomicLong state = stateRevisions.get(environmentId);
+        return new EnvironmentRevision(configRevision.get(), state == null ? 0L : state.get());
+    }
+
+    // Behind SecondLevelCacheEvictor and TopologySnapshots: both must be current before the revision moves.
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConfigChanged(ConfigChangedEvent event) {
+        configRevision.incrementAndGet();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScanStateChanged(ScanStateChangedEvent event) {
+        stateRevisions.computeIfAbsent(event.environmentId(), ignored -> new AtomicLong()).incrementAndGet();
+    }
+}
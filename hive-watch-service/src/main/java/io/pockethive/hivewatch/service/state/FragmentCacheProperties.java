@@ -0,0 +1,14 @@
+package io.pockethive.hivewatch.service.state;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.fragments")
+public record FragmentCacheProperties(
+        long maxAgeMs
+) {
+    public FragmentCacheProperties {
+        if (maxAgeMs < 1) {
+            throw new IllegalArgumentException("hivewatch.fragments.max-age-ms must be >= 1");
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.pockethive.hivewatch.service.state;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Cross-node cache coherence over Postgres LISTEN/NOTIFY. Local scan-state and config changes are queued
+// after commit and broadcast in coalesced batches; notifications from other nodes are replayed here as
+// remote events, so EnvironmentRevisions and every listener behind it behave as for a local change.
+@Component
+public class InvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+    // Postgres caps a NOTIFY payload just under 8000 bytes.
+    private static final int MAX_PAYLOAD_CHARS = 7000;
+    private static final String STATE = "S:";
+    private static final String CONFIG = "C:";
+    private static final String GLOBAL = "*";
+
+    private final InvalidationProperties properties;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> outbound = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    public InvalidationBus(
+            InvalidationProperties properties,
+            DataSource dataSource,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        Thread t = new Thread(this::run, "hw-invalidation");
+        t.setDaemon(true);
+        t.start();
+        thread = t;
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        Thread t = thread;
+        if (t != null) {
+            t.interrupt();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScanStateChanged(ScanStateChangedEvent event) {
+        if (properties.enabled() && !event.remote()) {
+            outbound.add(STATE + event.environmentId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConfigChanged(ConfigChangedEvent event) {
+        if (properties.enabled() && !event.remote()) {
+            outbound.add(CONFIG + (event.environmentId() == null ? GLOBAL : event.environmentId()));
+        }
+    }
+
+    private void run() {
+        long backoffMs = properties.coalesceMs();
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + properties.channel());
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                // Whatever was broadcast while this node wasn't listening is lost: resync everything once.
+                eventPublisher.publishEvent(new ConfigChangedEvent(null, true));
+                log.info("Invalidation bus listening on channel {} as node {}", properties.channel(), nodeId);
+                backoffMs = properties.coalesceMs();
+                while (running) {
+                    flush(connection);
+                    receive(pg);
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation bus connection lost, retrying in {} ms: {}", backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, properties.reconnectMaxBackoffMs());
+            } catch (RuntimeException e) {
+                log.warn("Invalidation bus failed to apply notifications: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void flush(Connection connection) throws SQLException {
+        if (outbound.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        for (Iterator<String> it = outbound.iterator(); it.hasNext(); ) {
+            keys.add(it.next());
+            it.remove();
+        }
+        try (PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+            StringBuilder payload = new StringBuilder(nodeId);
+            for (String key : keys) {
+                if (payload.length() + key.length() + 1 > MAX_PAYLOAD_CHARS) {
+                    notify(statement, payload.toString());
+                    payload = new StringBuilder(nodeId);
+                }
+                payload.append('|').append(key);
+            }
+            notify(statement, payload.toString());
+        } catch (SQLException e) {
+            outbound.addAll(keys);
+            throw e;
+        }
+    }
+
+    private void notify(PreparedStatement statement, String payload) throws SQLException {
+        statement.setString(1, properties.channel());
+        statement.setString(2, payload);
+        statement.execute();
+    }
+
+    // Waits up to one coalescing window for a notification, then keeps draining for one more window so a
+    // burst of scans across nodes is replayed as one event per environment.
+    private void receive(PGConnection pg) throws SQLException {
+        int windowMs = (int) properties.coalesceMs();
+        PGNotification[] notifications = pg.getNotifications(windowMs);
+        if (notifications == null || notifications.length == 0) {
+            return;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        collect(notifications, keys);
+        long deadline = System.nanoTime() + windowMs * 1_000_000L;
+        long remainingMs;
+        while ((remainingMs = (deadline - System.nanoTime()) / 1_000_000L) > 0) {
+            PGNotification[] more = pg.getNotifications((int) remainingMs);
+            if (more != null) {
+                collect(more, keys);
+            }
+        }
+        apply(keys);
+    }
+
+    private void collect(PGNotification[] notifications, Set<String> keys) {
+        for (PGNotification notification : notifications) {
+            String[] parts = notification.getParameter().split("\\|");
+            if (parts.length == 0 || parts[0].equals(nodeId)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                keys.add(parts[i]);
+            }
+        }
+    }
+
+    private void apply(Set<String> keys) {
+        boolean global = keys.contains(CONFIG + GLOBAL);
+        if (global) {
+            eventPublisher.publishEvent(new ConfigChangedEvent(null, true));
+        }
+        for (String key : keys) {
+            if (key.startsWith(STATE)) {
+                eventPublisher.publishEvent(new ScanStateChangedEvent(UUID.fromString(key.substring(STATE.length())), true));
+            } else if (!global && key.startsWith(CONFIG)) {
+                eventPublisher.publishEvent(new ConfigChangedEvent(UUID.fromString(key.substring(CONFIG.length())), true));
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.pockethive.hivewatch.service.state;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.invalidation")
+public record InvalidationProperties(
+        boolean enabled,
+        String channel,
+        long coalesceMs,
+        long reconnectMaxBackoffMs
+) {
+    public InvalidationProperties {
+        if (enabled && (channel == null || !channel.matches("[a-z_][a-z0-9_]*"))) {
+            throw new IllegalArgumentException("hivewatch.invalidation.channel must be a lower-case SQL identifier");
+        }
+        if (coalesceMs < 1 || reconnectMaxBackoffMs < coalesceMs) {
+            throw new IllegalArgumentException("hivewatch.invalidation must satisfy 1 <= coalesce-ms <= reconnect-max-backoff-ms");
+        }
+    }
+}
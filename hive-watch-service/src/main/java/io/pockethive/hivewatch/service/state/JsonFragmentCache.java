@@ -0,0 +1,36 @@
+package io.pockethive.hivewatch.service.state;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Serialized per-environment fragments keyed by revision. Fragments embed evaluatedAt and "last scan Ns ago"
+// texts, so they also expire after maxAge instead of freezing those until the next revision bump.
+public final class JsonFragmentCache {
+    private final Map<UUID, Fragment> fragments = new ConcurrentHashMap<>();
+    private final long maxAgeNanos;
+
+    public JsonFragmentCache(Duration maxAge) {
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public byte[] get(UUID environmentId, EnvironmentRevision revision) {
+        Fragment f = fragments.get(environmentId);
+        if (f == null || !f.revision().equals(revision) || System.nanoTime() - f.builtAtNanos() > maxAgeNanos) {
+            return null;
+        }
+        return f.json();
+    }
+
+    public void put(UUID environmentId, EnvironmentRevision revision, byte[] json) {
+        fragments.put(environmentId, new Fragment(revision, json, System.nanoTime()));
+    }
+
+    public void clear() {
+        fragments.clear();
+    }
+
+    private record Fragment(EnvironmentRevision revision, byte[] json, long builtAtNanos) {
+    }
+}
@@ -0,0 +1,9 @@
+package io.pockethive.hivewatch.service.state;
+
+// What the scan cadence needs to know about one target scan: was it healthy, and did anything change.
+public record ScanOutcome(
+        boolean healthy,
+        int fingerprint
+) {
+    public static final ScanOutcome TIMEOUT = new ScanOutcome(false, 0);
+}
@@ -0,0 +1,12 @@
+package io.pockethive.hivewatch.service.state;
+
+import java.util.UUID;
+
+public record ScanStateChangedEvent(
+        UUID environmentId,
+        boolean remote
+) {
+    public ScanStateChangedEvent(UUID environmentId) {
+        this(environmentId, false);
+    }
+}
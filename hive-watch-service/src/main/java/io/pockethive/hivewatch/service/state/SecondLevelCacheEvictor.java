@@ -0,0 +1,27 @@
+package io.pockethive.hivewatch.service.state;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Drops the cached topology and query results after every config change. The session alone is not enough even for
+// local writes: deleting a server or environment removes its targets and specs through ON DELETE CASCADE, which
+// Hibernate never sees, and writes made on another node only reach us as remote config changes.
+// Runs after commit and before TopologySnapshots and EnvironmentRevisions, so neither reloads stale entities.
+@Component
+public class SecondLevelCacheEvictor {
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConfigChanged(ConfigChangedEvent event) {
+        sessionFactory.getCache().evictAllRegions();
+    }
+}
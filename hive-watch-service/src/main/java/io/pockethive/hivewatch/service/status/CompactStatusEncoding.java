@@ -0,0 +1,60 @@
+package io.pockethive.hivewatch.service.status;
+
+import io.pockethive.hivewatch.service.api.CompactDecisionIssueDto;
+import io.pockethive.hivewatch.service.api.CompactEnvironmentStatusBatchDto;
+import io.pockethive.hivewatch.service.api.CompactEnvironmentStatusBatchItemDto;
+import io.pockethive.hivewatch.service.api.CompactEnvironmentStatusDto;
+import io.pockethive.hivewatch.service.api.DecisionIssueDto;
+import io.pockethive.hivewatch.service.api.EnvironmentStatusBatchDto;
+import io.pockethive.hivewatch.service.api.EnvironmentStatusBatchItemDto;
+import io.pockethive.hivewatch.service.api.EnvironmentStatusDto;
+
+// Enum ordinals are part of the compact wire format: only ever append constants to
+// DecisionVerdict, DecisionIssueKind and TomcatRole.
+final class CompactStatusEncoding {
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private CompactStatusEncoding() {
+    }
+
+    static CompactEnvironmentStatusDto encode(EnvironmentStatusDto status) {
+        return new CompactEnvironmentStatusDto(
+                status.environmentId(),
+                status.environmentName(),
+                status.verdict().ordinal(),
+                status.evaluatedAt().toEpochMilli(),
+                status.issues().stream().map(CompactStatusEncoding::encode).toList()
+        );
+    }
+
+    static CompactEnvironmentStatusBatchDto encode(EnvironmentStatusBatchDto batch) {
+        return new CompactEnvironmentStatusBatchDto(
+                batch.evaluatedAt().toEpochMilli(),
+                batch.items().stream().map(CompactStatusEncoding::encode).toList()
+        );
+    }
+
+    private static CompactEnvironmentStatusBatchItemDto encode(EnvironmentStatusBatchItemDto item) {
+        return new CompactEnvironmentStatusBatchItemDto(
+                item.ref(),
+                item.environmentId(),
+                item.environmentName(),
+                item.verdict() == null ? null : item.verdict().ordinal(),
+                item.issueCount(),
+                item.issues().isEmpty() ? null : item.issues().stream().map(CompactStatusEncoding::encode).toList(),
+                item.error()
+        );
+    }
+
+    private static CompactDecisionIssueDto encode(DecisionIssueDto issue) {
+        return new CompactDecisionIssueDto(
+                issue.severity().ordinal(),
+                issue.kind().ordinal(),
+                issue.targetId(),
+                issue.serverName(),
+                issue.role() == null ? null : issue.role().ordinal(),
+                issue.label(),
+                issue.message()
+        );
+    }
+}
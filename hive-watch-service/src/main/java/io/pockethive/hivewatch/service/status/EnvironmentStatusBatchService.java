@@ -0,0 +1,139 @@
+package io.pockethive.hivewatch.service.status;
+
+import io.pockethive.hivewatch.service.api.EnvironmentStatusBatchDto;
+import io.pockethive.hivewatch.service.api.EnvironmentStatusBatchItemDto;
+import io.pockethive.hivewatch.service.api.EnvironmentStatusBatchRequestDto;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.ActuatorTargetRow;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.TomcatTargetRow;
+import io.pockethive.hivewatch.service.decision.DecisionEngine;
+import io.pockethive.hivewatch.service.decision.DecisionEvaluation;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.scans.ScanDemand;
+import io.pockethive.hivewatch.service.security.EnvironmentVisibilityService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+@Service
+public class EnvironmentStatusBatchService {
+    private static final int MAX_ENVIRONMENTS = 200;
+    private static final int DEFAULT_MAX_ISSUES = 10;
+    private static final int MAX_ISSUES = 50;
+
+    private final EnvironmentVisibilityService environmentVisibilityService;
+    private final DashboardReadRepository dashboardReadRepository;
+    private final DecisionEngine decisionEngine;
+    private final PocketHiveProperties pocketHiveProperties;
+    private final ScanDemand scanDemand;
+
+    public EnvironmentStatusBatchService(
+            EnvironmentVisibilityService environmentVisibilityService,
+            DashboardReadRepository dashboardReadRepository,
+            DecisionEngine decisionEngine,
+            PocketHiveProperties pocketHiveProperties,
+            ScanDemand scanDemand
+    ) {
+        this.environmentVisibilityService = environmentVisibilityService;
+        this.dashboardReadRepository = dashboardReadRepository;
+        this.decisionEngine = decisionEngine;
+        this.pocketHiveProperties = pocketHiveProperties;
+        this.scanDemand = scanDemand;
+    }
+
+    // Repeatable read so every environment in the batch is evaluated against the same snapshot.
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public EnvironmentStatusBatchDto getStatuses(EnvironmentStatusBatchRequestDto request) {
+        if (request == null) {
+            throw new ResponseStatusException(BAD_REQUEST, "Request body is required");
+        }
+        List<UUID> environmentIds = request.environmentIds() == null ? List.of() : request.environmentIds();
+        List<String> sutIds = request.sutIds() == null ? List.of() : request.sutIds();
+        if (environmentIds.isEmpty() && sutIds.isEmpty()) {
+            throw new ResponseStatusException(BAD_REQUEST, "environmentIds or sutIds is required");
+        }
+        if (environmentIds.size() + sutIds.size() > MAX_ENVIRONMENTS) {
+            throw new ResponseStatusException(BAD_REQUEST, "At most " + MAX_ENVIRONMENTS + " environments per batch");
+        }
+        int maxIssues = request.maxIssues() == null ? DEFAULT_MAX_ISSUES : request.maxIssues();
+        if (maxIssues < 0 || maxIssues > MAX_ISSUES) {
+            throw new ResponseStatusException(BAD_REQUEST, "maxIssues must be between 0 and " + MAX_ISSUES);
+        }
+
+        List<Ref> refs = new ArrayList<>();
+        for (UUID environmentId : environmentIds) {
+            if (environmentId == null) {
+                throw new ResponseStatusException(BAD_REQUEST, "environmentIds must not contain null");
+            }
+            refs.add(new Ref(environmentId.toString(), environmentId));
+        }
+        for (String sutId : sutIds) {
+            if (sutId == null || sutId.isBlank()) {
+                throw new ResponseStatusException(BAD_REQUEST, "sutIds must not contain blank values");
+            }
+            UUID environmentId = pocketHiveProperties.sutAliases().get(sutId.trim());
+            refs.add(new Ref(sutId, environmentId));
+        }
+
+        Map<UUID, EnvironmentEntity> visibleById = environmentVisibilityService.listVisibleEnvironments().stream()
+                .collect(java.util.stream.Collectors.toMap(EnvironmentEntity::getId, Function.identity()));
+
+        Set<UUID> resolved = new LinkedHashSet<>();
+        for (Ref ref : refs) {
+            if (ref.environmentId() != null && visibleById.containsKey(ref.environmentId())) {
+                resolved.add(ref.environmentId());
+            }
+        }
+        scanDemand.recordReads(resolved);
+
+        Map<UUID, List<TomcatTargetRow>> tomcatTargetsByEnv = dashboardReadRepository.findTomcatTargets(resolved).stream()
+                .collect(java.util.stream.Collectors.groupingBy(TomcatTargetRow::environmentId));
+        Map<UUID, List<ActuatorTargetRow>> actuatorTargetsByEnv = dashboardReadRepository.findActuatorTargets(resolved).stream()
+                .collect(java.util.stream.Collectors.groupingBy(ActuatorTargetRow::environmentId));
+
+        Instant now = Instant.now();
+        Map<UUID, DecisionEvaluation> evaluationByEnv = new HashMap<>();
+        List<EnvironmentStatusBatchItemDto> items = new ArrayList<>();
+        for (Ref ref : refs) {
+            if (ref.environmentId() == null) {
+                items.add(new EnvironmentStatusBatchItemDto(ref.ref(), null, null, null, 0, List.of(), "UNKNOWN_SUT"));
+                continue;
+            }
+            EnvironmentEntity env = visibleById.get(ref.environmentId());
+            if (env == null) {
+                items.add(new EnvironmentStatusBatchItemDto(ref.ref(), null, null, null, 0, List.of(), "NOT_FOUND"));
+                continue;
+            }
+            DecisionEvaluation evaluation = evaluationByEnv.computeIfAbsent(env.getId(), id -> decisionEngine.evaluate(
+                    id,
+                    tomcatTargetsByEnv.getOrDefault(id, List.of()).stream().map(TomcatTargetRow::observation).toList(),
+                    actuatorTargetsByEnv.getOrDefault(id, List.of()).stream().map(ActuatorTargetRow::observation).toList()
+            ));
+            items.add(new EnvironmentStatusBatchItemDto(
+                    ref.ref(),
+                    env.getId(),
+                    env.getName(),
+                    evaluation.verdict(),
+                    evaluation.issues().size(),
+                    evaluation.issues().stream().limit(maxIssues).toList(),
+                    null
+            ));
+        }
+        return new EnvironmentStatusBatchDto(now, List.copyOf(items));
+    }
+
+    private record Ref(String ref, UUID environmentId) {
+    }
+}
@@ -1,28 +1,68 @@
 package io.pockethive.hivewatch.service.status;
 
-import io.pockethive.hivewatch.service.api.EnvironmentStatusDto;
+import io.pockethive.hivewatch.service.api.CompactEnvironmentStatusBatchDto;
+import io.pockethive.hivewatch.service.api.CompactEnvironmentStatusDto;
+import io.pockethive.hivewatch.service.api.EnvironmentStatusBatchDto;
+import io.pockethive.hivewatch.service.api.EnvironmentStatusBatchRequestDto;
+import io.pockethive.hivewatch.service.scans.ScanDemand;
 import io.pockethive.hivewatch.service.security.EnvironmentVisibilityService;
 import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class EnvironmentStatusController {
     private final EnvironmentStatusQueryService environmentStatusQueryService;
+    private final EnvironmentStatusBatchService environmentStatusBatchService;
     private final EnvironmentVisibilityService environmentVisibilityService;
+    private final ScanDemand scanDemand;
 
     public EnvironmentStatusController(
             EnvironmentStatusQueryService environmentStatusQueryService,
-            EnvironmentVisibilityService environmentVisibilityService
+            EnvironmentStatusBatchService environmentStatusBatchService,
+            EnvironmentVisibilityService environmentVisibilityService,
+            ScanDemand scanDemand
     ) {
         this.environmentStatusQueryService = environmentStatusQueryService;
+        this.environmentStatusBatchService = environmentStatusBatchService;
         this.environmentVisibilityService = environmentVisibilityService;
+        this.scanDemand = scanDemand;
     }
 
     @GetMapping("/api/v1/environments/{environmentId}/status")
-    public EnvironmentStatusDto get(@PathVariable("environmentId") UUID environmentId) {
+    public ResponseEntity<byte[]> get(@PathVariable("environmentId") UUID environmentId) {
         environmentVisibilityService.requireVisible(environmentId);
-        return environmentStatusQueryService.getStatus(environmentId);
+        scanDemand.recordRead(environmentId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(environmentStatusQueryService.getStatusJson(environmentId));
+    }
+
+    @GetMapping(
+            value = "/api/v1/environments/{environmentId}/status",
+            produces = {MediaType.APPLICATION_CBOR_VALUE, CompactStatusEncoding.APPLICATION_SMILE_VALUE}
+    )
+    public CompactEnvironmentStatusDto getCompact(@PathVariable("environmentId") UUID environmentId) {
+        environmentVisibilityService.requireVisible(environmentId);
+        scanDemand.recordRead(environmentId);
+        return CompactStatusEncoding.encode(environmentStatusQueryService.getStatus(environmentId));
+    }
+
+    @PostMapping("/api/v1/environments/status:batch")
+    public EnvironmentStatusBatchDto batch(@RequestBody EnvironmentStatusBatchRequestDto request) {
+        return environmentStatusBatchService.getStatuses(request);
+    }
+
+    @PostMapping(
+            value = "/api/v1/environments/status:batch",
+            produces = {MediaType.APPLICATION_CBOR_VALUE, CompactStatusEncoding.APPLICATION_SMILE_VALUE}
+    )
+    public CompactEnvironmentStatusBatchDto batchCompact(@RequestBody EnvironmentStatusBatchRequestDto request) {
+        return CompactStatusEncoding.encode(environmentStatusBatchService.getStatuses(request));
     }
 }
@@ -1,21 +1,27 @@
 package io.pockethive.hivewatch.service.status;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.pockethive.hivewatch.service.actuator.ActuatorTargetEntity;
-import io.pockethive.hivewatch.service.actuator.ActuatorTargetRepository;
 import io.pockethive.hivewatch.service.actuator.ActuatorTargetScanStateEntity;
 import io.pockethive.hivewatch.service.actuator.ActuatorTargetScanStateRepository;
 import io.pockethive.hivewatch.service.api.EnvironmentStatusDto;
+import io.pockethive.hivewatch.service.datasource.PrimaryReads;
 import io.pockethive.hivewatch.service.decision.DecisionEngine;
 import io.pockethive.hivewatch.service.decision.DecisionEvaluation;
 import io.pockethive.hivewatch.service.decision.DecisionInputs;
 import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
-import io.pockethive.hivewatch.service.environments.EnvironmentRepository;
 import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
-import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
+import io.pockethive.hivewatch.service.state.EnvironmentRevision;
+import io.pockethive.hivewatch.service.state.EnvironmentRevisions;
+import io.pockethive.hivewatch.service.state.FragmentCacheProperties;
+import io.pockethive.hivewatch.service.state.JsonFragmentCache;
 import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
-import io.pockethive.hivewatch.service.tomcat.TomcatTargetRepository;
 import io.pockethive.hivewatch.service.tomcat.TomcatTargetScanStateEntity;
 import io.pockethive.hivewatch.service.tomcat.TomcatTargetScanStateRepository;
+import io.pockethive.hivewatch.service.topology.EnvironmentTopology;
+import io.pockethive.hivewatch.service.topology.TopologySnapshots;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -31,50 +37,67 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 public class EnvironmentStatusQueryService {
     private static final int MAX_ISSUES = 50;
 
-    private final EnvironmentRepository environmentRepository;
-    private final ServerRepository serverRepository;
-    private final TomcatTargetRepository tomcatTargetRepository;
+    private final TopologySnapshots topologySnapshots;
     private final TomcatTargetScanStateRepository tomcatTargetScanStateRepository;
-    private final ActuatorTargetRepository actuatorTargetRepository;
     private final ActuatorTargetScanStateRepository actuatorTargetScanStateRepository;
     private final DecisionEngine decisionEngine;
+    private final EnvironmentRevisions environmentRevisions;
+    private final ObjectMapper objectMapper;
+    private final PrimaryReads primaryReads;
+    private final JsonFragmentCache statusFragments;
 
     public EnvironmentStatusQueryService(
-            EnvironmentRepository environmentRepository,
-            ServerRepository serverRepository,
-            TomcatTargetRepository tomcatTargetRepository,
+            TopologySnapshots topologySnapshots,
             TomcatTargetScanStateRepository tomcatTargetScanStateRepository,
-            ActuatorTargetRepository actuatorTargetRepository,
             ActuatorTargetScanStateRepository actuatorTargetScanStateRepository,
-            DecisionEngine decisionEngine
+            DecisionEngine decisionEngine,
+            EnvironmentRevisions environmentRevisions,
+            ObjectMapper objectMapper,
+            PrimaryReads primaryReads,
+            FragmentCacheProperties fragmentCacheProperties
     ) {
-        this.environmentRepository = environmentRepository;
-        this.serverRepository = serverRepository;
-        this.tomcatTargetRepository = tomcatTargetRepository;
+        this.topologySnapshots = topologySnapshots;
         this.tomcatTargetScanStateRepository = tomcatTargetScanStateRepository;
-        this.actuatorTargetRepository = actuatorTargetRepository;
         this.actuatorTargetScanStateRepository = actuatorTargetScanStateRepository;
         this.decisionEngine = decisionEngine;
+        this.environmentRevisions = environmentRevisions;
+        this.objectMapper = objectMapper;
+        this.primaryReads = primaryReads;
+        this.statusFragments = new JsonFragmentCache(Duration.ofMillis(fragmentCacheProperties.maxAgeMs()));
+    }
+
+    // Not transactional itself: a stale fragment is rebuilt in a primary-pinned transaction of its own.
+    public byte[] getStatusJson(UUID environmentId) {
+        EnvironmentRevision revision = environmentRevisions.current(environmentId);
+        byte[] cached = statusFragments.get(environmentId, revision);
+        if (cached != null) {
+            return cached;
+        }
+        EnvironmentStatusDto status = primaryReads.call(() -> getStatus(environmentId));
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(status);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize environment status: " + environmentId, e);
+        }
+        statusFragments.put(environmentId, revision, json);
+        return json;
     }
 
     @Transactional(readOnly = true)
     public EnvironmentStatusDto getStatus(UUID environmentId) {
-        EnvironmentEntity env = environmentRepository.findById(environmentId)
+        EnvironmentTopology topology = topologySnapshots.current().environment(environmentId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Environment not found"));
+        EnvironmentEntity env = topology.environment();
+        Map<UUID, ServerEntity> serverById = topology.serverById();
 
-        List<ServerEntity> servers = serverRepository.findByEnvironmentId(environmentId);
-        Map<UUID, ServerEntity> serverById = servers.stream()
-                .collect(java.util.stream.Collectors.toMap(ServerEntity::getId, Function.identity()));
-
-        List<UUID> serverIds = servers.stream().map(ServerEntity::getId).toList();
-
-        List<TomcatTargetEntity> tomcatTargets = serverIds.isEmpty() ? List.of() : tomcatTargetRepository.findByServerIdIn(serverIds);
+        List<TomcatTargetEntity> tomcatTargets = topology.tomcatTargets();
         Map<UUID, TomcatTargetScanStateEntity> tomcatStateById = tomcatTargetScanStateRepository
                 .findAllById(tomcatTargets.stream().map(TomcatTargetEntity::getId).toList())
                 .stream()
                 .collect(java.util.stream.Collectors.toMap(TomcatTargetScanStateEntity::getTargetId, Function.identity()));
 
-        List<ActuatorTargetEntity> actuatorTargets = serverIds.isEmpty() ? List.of() : actuatorTargetRepository.findByServerIdIn(serverIds);
+        List<ActuatorTargetEntity> actuatorTargets = topology.actuatorTargets();
         Map<UUID, ActuatorTargetScanStateEntity> actuatorStateById = actuatorTargetScanStateRepository
                 .findAllById(actuatorTargets.stream().map(ActuatorTargetEntity::getId).toList())
                 .stream()
@@ -123,7 +146,7 @@ public class EnvironmentStatusQueryService {
             );
         }).toList();
 
-        DecisionEvaluation evaluation = decisionEngine.evaluate(tomcatObs, actuatorObs);
+        DecisionEvaluation evaluation = decisionEngine.evaluate(environmentId, tomcatObs, actuatorObs);
         Instant now = Instant.now();
 
         return new EnvironmentStatusDto(
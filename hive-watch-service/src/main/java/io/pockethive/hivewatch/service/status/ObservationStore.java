@@ -0,0 +1,64 @@
+package io.pockethive.hivewatch.service.status;
+
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.ActuatorTargetRow;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.TomcatTargetRow;
+import io.pockethive.hivewatch.service.datasource.PrimaryReads;
+import io.pockethive.hivewatch.service.decision.DecisionInputs;
+import io.pockethive.hivewatch.service.state.EnvironmentRevision;
+import io.pockethive.hivewatch.service.state.EnvironmentRevisions;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// Decision inputs per environment, reloaded only when a scan or config change bumps the revision.
+@Component
+public class ObservationStore {
+    private final DashboardReadRepository dashboardReadRepository;
+    private final EnvironmentRevisions environmentRevisions;
+    private final PrimaryReads primaryReads;
+    private final Map<UUID, EnvironmentObservations> observations = new ConcurrentHashMap<>();
+
+    public ObservationStore(
+            DashboardReadRepository dashboardReadRepository,
+            EnvironmentRevisions environmentRevisions,
+            PrimaryReads primaryReads
+    ) {
+        this.dashboardReadRepository = dashboardReadRepository;
+        this.environmentRevisions = environmentRevisions;
+        this.primaryReads = primaryReads;
+    }
+
+    public EnvironmentObservations get(UUID environmentId) {
+        EnvironmentRevision revision = environmentRevisions.current(environmentId);
+        EnvironmentObservations current = observations.get(environmentId);
+        if (current != null && current.revision().equals(revision)) {
+            return current;
+        }
+        EnvironmentObservations loaded = primaryReads.call(() -> load(environmentId, revision));
+        observations.put(environmentId, loaded);
+        return loaded;
+    }
+
+    private EnvironmentObservations load(UUID environmentId, EnvironmentRevision revision) {
+        List<UUID> ids = List.of(environmentId);
+        List<DecisionInputs.TomcatTargetObservation> tomcats = dashboardReadRepository.findTomcatTargets(ids).stream()
+                .map(TomcatTargetRow::observation)
+                .toList();
+        List<DecisionInputs.ActuatorTargetObservation> actuators = dashboardReadRepository.findActuatorTargets(ids).stream()
+                .map(ActuatorTargetRow::observation)
+                .toList();
+        return new EnvironmentObservations(revision, Instant.now(), tomcats, actuators);
+    }
+
+    public record EnvironmentObservations(
+            EnvironmentRevision revision,
+            Instant loadedAt,
+            List<DecisionInputs.TomcatTargetObservation> tomcats,
+            List<DecisionInputs.ActuatorTargetObservation> actuators
+    ) {
+    }
+}
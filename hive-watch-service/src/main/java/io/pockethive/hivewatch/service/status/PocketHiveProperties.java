@@ -0,0 +1,14 @@
+package io.pockethive.hivewatch.service.status;
+
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.pockethive")
+public record PocketHiveProperties(
+        Map<String, UUID> sutAliases
+) {
+    public PocketHiveProperties {
+        sutAliases = sutAliases == null ? Map.of() : Map.copyOf(sutAliases);
+    }
+}
@@ -0,0 +1,25 @@
+package io.pockethive.hivewatch.service.status;
+
+import io.pockethive.hivewatch.service.api.DecisionEvaluateRequestDto;
+import io.pockethive.hivewatch.service.api.DecisionEvaluateResultDto;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class SutDecisionController {
+    private final SutDecisionService sutDecisionService;
+
+    public SutDecisionController(SutDecisionService sutDecisionService) {
+        this.sutDecisionService = sutDecisionService;
+    }
+
+    @PostMapping("/api/v1/suts/{sutId}/decision/evaluate")
+    public DecisionEvaluateResultDto evaluate(
+            @PathVariable("sutId") String sutId,
+            @RequestBody DecisionEvaluateRequestDto request
+    ) {
+        return sutDecisionService.evaluate(sutId, request);
+    }
+}
@@ -0,0 +1,105 @@
+package io.pockethive.hivewatch.service.status;
+
+import io.pockethive.hivewatch.service.api.DecisionEvaluateRequestDto;
+import io.pockethive.hivewatch.service.api.DecisionEvaluateResultDto;
+import io.pockethive.hivewatch.service.api.DecisionRuleDto;
+import io.pockethive.hivewatch.service.decision.CompiledDecisionPolicy;
+import io.pockethive.hivewatch.service.decision.DecisionEngine;
+import io.pockethive.hivewatch.service.decision.DecisionEvaluation;
+import io.pockethive.hivewatch.service.decision.DecisionRuleSetCache;
+import io.pockethive.hivewatch.service.scans.ScanDemand;
+import io.pockethive.hivewatch.service.security.EnvironmentVisibilityService;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@Service
+public class SutDecisionService {
+    private static final int MAX_RULES = 50;
+    private static final int DEFAULT_MAX_ISSUES = 10;
+    private static final int MAX_ISSUES = 50;
+
+    private final PocketHiveProperties pocketHiveProperties;
+    private final EnvironmentVisibilityService environmentVisibilityService;
+    private final ObservationStore observationStore;
+    private final DecisionRuleSetCache decisionRuleSetCache;
+    private final DecisionEngine decisionEngine;
+    private final ScanDemand scanDemand;
+
+    public SutDecisionService(
+            PocketHiveProperties pocketHiveProperties,
+            EnvironmentVisibilityService environmentVisibilityService,
+            ObservationStore observationStore,
+            DecisionRuleSetCache decisionRuleSetCache,
+            DecisionEngine decisionEngine,
+            ScanDemand scanDemand
+    ) {
+        this.pocketHiveProperties = pocketHiveProperties;
+        this.environmentVisibilityService = environmentVisibilityService;
+        this.observationStore = observationStore;
+        this.decisionRuleSetCache = decisionRuleSetCache;
+        this.decisionEngine = decisionEngine;
+        this.scanDemand = scanDemand;
+    }
+
+    public DecisionEvaluateResultDto evaluate(String sutId, DecisionEvaluateRequestDto request) {
+        UUID environmentId = resolveSut(sutId);
+        environmentVisibilityService.requireVisible(environmentId);
+
+        if (request == null || request.rules() == null || request.rules().isEmpty()) {
+            throw new ResponseStatusException(BAD_REQUEST, "rules are required");
+        }
+        List<DecisionRuleDto> rules = request.rules();
+        if (rules.size() > MAX_RULES) {
+            throw new ResponseStatusException(BAD_REQUEST, "At most " + MAX_RULES + " rules are allowed");
+        }
+        int maxIssues = request.maxIssues() == null ? DEFAULT_MAX_ISSUES : request.maxIssues();
+        if (maxIssues < 0 || maxIssues > MAX_ISSUES) {
+            throw new ResponseStatusException(BAD_REQUEST, "maxIssues must be between 0 and " + MAX_ISSUES);
+        }
+
+        for (DecisionRuleDto rule : rules) {
+            try {
+                CompiledDecisionPolicy.validate(rule);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+            }
+        }
+        String hash = DecisionRuleSetCache.hash(rules);
+        CompiledDecisionPolicy policy = decisionRuleSetCache.get(hash, environmentId, rules);
+
+        scanDemand.recordRead(environmentId);
+        ObservationStore.EnvironmentObservations observations = observationStore.get(environmentId);
+        DecisionEvaluation evaluation = decisionEngine.evaluate(policy, observations.tomcats(), observations.actuators());
+        return new DecisionEvaluateResultDto(
+                sutId,
+                environmentId,
+                hash,
+                Instant.now(),
+                observations.loadedAt(),
+                evaluation.verdict(),
+                evaluation.blockIssues(),
+                evaluation.warnIssues(),
+                evaluation.unknownIssues(),
+                evaluation.issues().stream().limit(maxIssues).toList()
+        );
+    }
+
+    private UUID resolveSut(String sutId) {
+        String trimmed = sutId == null ? "" : sutId.trim();
+        UUID aliased = pocketHiveProperties.sutAliases().get(trimmed);
+        if (aliased != null) {
+            return aliased;
+        }
+        try {
+            return UUID.fromString(trimmed);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(NOT_FOUND, "Unknown SUT: " + trimmed);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.pockethive.hivewatch.service.testruns;
+
+import io.pockethive.hivewatch.service.api.DecisionIssueDto;
+import io.pockethive.hivewatch.service.api.DecisionVerdict;
+import io.pockethive.hivewatch.service.api.TestRunDto;
+import io.pockethive.hivewatch.service.api.TestRunReportDto;
+import io.pockethive.hivewatch.service.api.TestRunStatus;
+import io.pockethive.hivewatch.service.api.TestRunTimelineEntryDto;
+import io.pockethive.hivewatch.service.decision.DecisionEvaluation;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+// One open or finished test run. The timeline only grows when the verdict or the set of issues changes;
+// metric peaks and time spent per verdict are accumulated on every evaluation.
+final class TestRun {
+    private final UUID id;
+    private final UUID environmentId;
+    private final String label;
+    private final Instant startedAt;
+    private final Instant expiresAt;
+    private final int maxTimelineEntries;
+    private final List<TestRunTimelineEntryDto> timeline = new ArrayList<>();
+    private final Map<DecisionVerdict, Long> verdictDurationsMs = new EnumMap<>(DecisionVerdict.class);
+
+    private TestRunStatus status = TestRunStatus.OPEN;
+    private Instant endedAt;
+    private long evaluations;
+    private boolean timelineTruncated;
+    private DecisionVerdict lastVerdict;
+    private DecisionVerdict worstVerdict;
+    private Instant lastEvaluatedAt;
+    private List<IssueKey> lastIssues;
+    private Double peakCpuUsage;
+    private Long peakMemoryUsedBytes;
+
+    TestRun(UUID id, UUID environmentId, String label, Instant startedAt, Instant expiresAt, int maxTimelineEntries) {
+        this.id = id;
+        this.environmentId = environmentId;
+        this.label = label;
+        this.startedAt = startedAt;
+        this.expiresAt = expiresAt;
+        this.maxTimelineEntries = maxTimelineEntries;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    UUID environmentId() {
+        return environmentId;
+    }
+
+    Instant expiresAt() {
+        return expiresAt;
+    }
+
+    synchronized boolean isOpen() {
+        return status == TestRunStatus.OPEN;
+    }
+
+    synchronized Instant endedAt() {
+        return endedAt;
+    }
+
+    synchronized void record(DecisionEvaluation evaluation, Double maxCpuUsage, Long maxMemoryUsedBytes, Instant now) {
+        if (status != TestRunStatus.OPEN) {
+            return;
+        }
+        evaluations++;
+        accumulate(now);
+        lastVerdict = evaluation.verdict();
+        if (worstVerdict == null || rank(lastVerdict) > rank(worstVerdict)) {
+            worstVerdict = lastVerdict;
+        }
+        if (maxCpuUsage != null && (peakCpuUsage == null || maxCpuUsage > peakCpuUsage)) {
+            peakCpuUsage = maxCpuUsage;
+        }
+        if (maxMemoryUsedBytes != null && (peakMemoryUsedBytes == null || maxMemoryUsedBytes > peakMemoryUsedBytes)) {
+            peakMemoryUsedBytes = maxMemoryUsedBytes;
+        }
+
+        // Issue messages carry live values (e.g. cpu=91%), so changes are detected on identity only.
+        List<IssueKey> issues = evaluation.issues().stream().map(IssueKey::of).sorted().toList();
+        if (!timeline.isEmpty() && timeline.getLast().verdict() == lastVerdict && issues.equals(lastIssues)) {
+            return;
+        }
+        lastIssues = issues;
+        if (timeline.size() >= maxTimelineEntries) {
+            timelineTruncated = true;
+            return;
+        }
+        timeline.add(new TestRunTimelineEntryDto(
+                now,
+                evaluation.verdict(),
+                evaluation.blockIssues(),
+                evaluation.warnIssues(),
+                evaluation.unknownIssues(),
+                List.copyOf(evaluation.issues()),
+                maxCpuUsage,
+                maxMemoryUsedBytes
+        ));
+    }
+
+    synchronized boolean close(TestRunStatus closedAs, Instant now) {
+        if (status != TestRunStatus.OPEN) {
+            return false;
+        }
+        accumulate(now);
+        status = closedAs;
+        endedAt = now;
+        return true;
+    }
+
+    synchronized TestRunDto toDto() {
+        return new TestRunDto(id, environmentId, label, status, startedAt, expiresAt);
+    }
+
+    synchronized TestRunReportDto report(Instant now) {
+        Map<DecisionVerdict, Long> durations = new EnumMap<>(verdictDurationsMs);
+        if (status == TestRunStatus.OPEN && lastVerdict != null) {
+            durations.merge(lastVerdict, Duration.between(lastEvaluatedAt, now).toMillis(), Long::sum);
+        }
+        return new TestRunReportDto(
+                id,
+                environmentId,
+                label,
+                status,
+                startedAt,
+                endedAt,
+                lastVerdict,
+                worstVerdict,
+                durations,
+                peakCpuUsage,
+                peakMemoryUsedBytes,
+                evaluations,
+                timelineTruncated,
+                List.copyOf(timeline)
+        );
+    }
+
+    private void accumulate(Instant now) {
+        if (lastVerdict != null) {
+            verdictDurationsMs.merge(lastVerdict, Duration.between(lastEvaluatedAt, now).toMillis(), Long::sum);
+        }
+        lastEvaluatedAt = now;
+    }
+
+    private static int rank(DecisionVerdict verdict) {
+        return switch (verdict) {
+            case OK -> 0;
+            case WARN -> 1;
+            case UNKNOWN -> 2;
+            case BLOCK -> 3;
+        };
+    }
+
+    private record IssueKey(String severity, String kind, String targetId, String label) implements Comparable<IssueKey> {
+        static IssueKey of(DecisionIssueDto issue) {
+            return new IssueKey(
+                    String.valueOf(issue.severity()),
+                    String.valueOf(issue.kind()),
+                    String.valueOf(issue.targetId()),
+                    Objects.toString(issue.label(), "")
+            );
+        }
+
+        @Override
+        public int compareTo(IssueKey other) {
+            int c = severity.compareTo(other.severity);
+            if (c == 0) {
+                c = kind.compareTo(other.kind);
+            }
+            if (c == 0) {
+                c = targetId.compareTo(other.targetId);
+            }
+            return c != 0 ? c : label.compareTo(other.label);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.pockethive.hivewatch.service.testruns;
+
+import io.pockethive.hivewatch.service.api.TestRunDto;
+import io.pockethive.hivewatch.service.api.TestRunReportDto;
+import io.pockethive.hivewatch.service.api.TestRunStartRequestDto;
+import io.pockethive.hivewatch.service.security.EnvironmentVisibilityService;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class TestRunController {
+    private final TestRunService testRunService;
+    private final EnvironmentVisibilityService environmentVisibilityService;
+
+    public TestRunController(TestRunService testRunService, EnvironmentVisibilityService environmentVisibilityService) {
+        this.testRunService = testRunService;
+        this.environmentVisibilityService = environmentVisibilityService;
+    }
+
+    @PostMapping("/api/v1/environments/{environmentId}/test-runs")
+    public TestRunDto start(
+            @PathVariable("environmentId") UUID environmentId,
+            @RequestBody(required = false) TestRunStartRequestDto request
+    ) {
+        environmentVisibilityService.requireVisible(environmentId);
+        return testRunService.start(environmentId, request);
+    }
+
+    @GetMapping("/api/v1/environments/{environmentId}/test-runs")
+    public List<TestRunDto> list(@PathVariable("environmentId") UUID environmentId) {
+        environmentVisibilityService.requireVisible(environmentId);
+        return testRunService.list(environmentId);
+    }
+
+    @GetMapping("/api/v1/environments/{environmentId}/test-runs/{runId}")
+    public TestRunReportDto report(@PathVariable("environmentId") UUID environmentId, @PathVariable("runId") UUID runId) {
+        environmentVisibilityService.requireVisible(environmentId);
+        return testRunService.report(environmentId, runId);
+    }
+
+    @PostMapping("/api/v1/environments/{environmentId}/test-runs/{runId}/close")
+    public TestRunReportDto close(@PathVariable("environmentId") UUID environmentId, @PathVariable("runId") UUID runId) {
+        environmentVisibilityService.requireVisible(environmentId);
+        return testRunService.close(environmentId, runId);
+    }
+}
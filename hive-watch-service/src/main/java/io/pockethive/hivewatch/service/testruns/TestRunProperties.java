@@ -0,0 +1,24 @@
+package io.pockethive.hivewatch.service.testruns;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hivewatch.test-runs")
+public record TestRunProperties(
+        long maxDurationMs,
+        int maxOpenRuns,
+        int maxTimelineEntries,
+        long retainClosedMs,
+        long sweepMs
+) {
+    public TestRunProperties {
+        if (maxDurationMs < 1) {
+            throw new IllegalArgumentException("hivewatch.test-runs.max-duration-ms must be >= 1");
+        }
+        if (maxOpenRuns < 1) {
+            throw new IllegalArgumentException("hivewatch.test-runs.max-open-runs must be >= 1");
+        }
+        if (maxTimelineEntries < 2) {
+            throw new IllegalArgumentException("hivewatch.test-runs.max-timeline-entries must be >= 2");
+        }
+    }
+}
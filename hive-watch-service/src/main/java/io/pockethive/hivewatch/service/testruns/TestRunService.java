@@ -0,0 +1,169 @@
+package io.pockethive.hivewatch.service.testruns;
+
+import io.pockethive.hivewatch.service.api.TestRunDto;
+import io.pockethive.hivewatch.service.api.TestRunReportDto;
+import io.pockethive.hivewatch.service.api.TestRunStartRequestDto;
+import io.pockethive.hivewatch.service.api.TestRunStatus;
+import io.pockethive.hivewatch.service.decision.DecisionEngine;
+import io.pockethive.hivewatch.service.decision.DecisionEvaluation;
+import io.pockethive.hivewatch.service.decision.DecisionInputs;
+import io.pockethive.hivewatch.service.scans.ScanDemand;
+import io.pockethive.hivewatch.service.state.ScanStateChangedEvent;
+import io.pockethive.hivewatch.service.status.ObservationStore;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+// Test runs live in memory only: they put the environment into burst scanning and record a change-only
+// timeline, so the orchestrator gets one compact report on close instead of polling and storing snapshots.
+@Service
+public class TestRunService {
+    private static final Logger log = LoggerFactory.getLogger(TestRunService.class);
+    private static final int MAX_LABEL_LENGTH = 200;
+
+    private final TestRunProperties properties;
+    private final ScanDemand scanDemand;
+    private final ObservationStore observationStore;
+    private final DecisionEngine decisionEngine;
+    private final Map<UUID, TestRun> runs = new ConcurrentHashMap<>();
+
+    public TestRunService(
+            TestRunProperties properties,
+            ScanDemand scanDemand,
+            ObservationStore observationStore,
+            DecisionEngine decisionEngine
+    ) {
+        this.properties = properties;
+        this.scanDemand = scanDemand;
+        this.observationStore = observationStore;
+        this.decisionEngine = decisionEngine;
+    }
+
+    public TestRunDto start(UUID environmentId, TestRunStartRequestDto request) {
+        String label = request == null || request.label() == null ? null : request.label().trim();
+        if (label != null && label.length() > MAX_LABEL_LENGTH) {
+            throw new ResponseStatusException(BAD_REQUEST, "label must be at most " + MAX_LABEL_LENGTH + " characters");
+        }
+        long maxDurationMs = request == null || request.maxDurationMs() == null
+                ? properties.maxDurationMs()
+                : request.maxDurationMs();
+        if (maxDurationMs < 1 || maxDurationMs > properties.maxDurationMs()) {
+            throw new ResponseStatusException(BAD_REQUEST, "maxDurationMs must be between 1 and " + properties.maxDurationMs());
+        }
+        if (runs.values().stream().filter(TestRun::isOpen).count() >= properties.maxOpenRuns()) {
+            throw new ResponseStatusException(BAD_REQUEST, "At most " + properties.maxOpenRuns() + " test runs can be open");
+        }
+
+        Instant now = Instant.now();
+        TestRun run = new TestRun(
+                UUID.randomUUID(),
+                environmentId,
+                label == null || label.isEmpty() ? null : label,
+                now,
+                now.plusMillis(maxDurationMs),
+                properties.maxTimelineEntries()
+        );
+        runs.put(run.id(), run);
+        scanDemand.startBurst(environmentId);
+        sample(run);
+        return run.toDto();
+    }
+
+    public List<TestRunDto> list(UUID environmentId) {
+        return runs.values().stream()
+                .filter(r -> r.environmentId().equals(environmentId))
+                .map(TestRun::toDto)
+                .sorted(Comparator.comparing(TestRunDto::startedAt))
+                .toList();
+    }
+
+    public TestRunReportDto report(UUID environmentId, UUID runId) {
+        return require(environmentId, runId).report(Instant.now());
+    }
+
+    // Idempotent: closing an already finished run just returns its report.
+    public TestRunReportDto close(UUID environmentId, UUID runId) {
+        TestRun run = require(environmentId, runId);
+        if (run.isOpen()) {
+            sample(run);
+        }
+        finish(run, TestRunStatus.CLOSED, Instant.now());
+        return run.report(Instant.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScanStateChanged(ScanStateChangedEvent event) {
+        for (TestRun run : runs.values()) {
+            if (run.isOpen() && run.environmentId().equals(event.environmentId())) {
+                sample(run);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hivewatch.test-runs.sweep-ms}")
+    public void sweep() {
+        Instant now = Instant.now();
+        Instant retainAfter = now.minusMillis(properties.retainClosedMs());
+        for (TestRun run : runs.values()) {
+            if (run.isOpen() && !run.expiresAt().isAfter(now)) {
+                finish(run, TestRunStatus.EXPIRED, now);
+                log.info("Test run {} for envId={} expired", run.id(), run.environmentId());
+            }
+            Instant endedAt = run.endedAt();
+            if (endedAt != null && endedAt.isBefore(retainAfter)) {
+                runs.remove(run.id());
+            }
+        }
+    }
+
+    private TestRun require(UUID environmentId, UUID runId) {
+        TestRun run = runs.get(runId);
+        if (run == null || !run.environmentId().equals(environmentId)) {
+            throw new ResponseStatusException(NOT_FOUND, "Test run not found");
+        }
+        return run;
+    }
+
+    private void finish(TestRun run, TestRunStatus status, Instant now) {
+        if (run.close(status, now)) {
+            scanDemand.endBurst(run.environmentId());
+        }
+    }
+
+    private void sample(TestRun run) {
+        try {
+            ObservationStore.EnvironmentObservations observations = observationStore.get(run.environmentId());
+            DecisionEvaluation evaluation = decisionEngine.evaluate(
+                    run.environmentId(),
+                    observations.tomcats(),
+                    observations.actuators()
+            );
+            Double maxCpuUsage = observations.actuators().stream()
+                    .map(DecisionInputs.ActuatorTargetObservation::cpuUsage)
+                    .filter(Objects::nonNull)
+                    .max(Double::compare)
+                    .orElse(null);
+            Long maxMemoryUsedBytes = observations.actuators().stream()
+                    .map(DecisionInputs.ActuatorTargetObservation::memoryUsedBytes)
+                    .filter(Objects::nonNull)
+                    .max(Long::compare)
+                    .orElse(null);
+            run.record(evaluation, maxCpuUsage, maxMemoryUsedBytes, Instant.now());
+        } catch (RuntimeException e) {
+            log.warn("Test run {} sample failed for envId={}: {}", run.id(), run.environmentId(), e.getMessage());
+        }
+    }
+}
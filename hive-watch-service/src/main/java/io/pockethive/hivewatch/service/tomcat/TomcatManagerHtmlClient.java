@@ -4,44 +4,26 @@ import io.pockethive.hivewatch.service.api.TomcatScanErrorKind;
 import io.pockethive.hivewatch.service.api.TomcatWebappDto;
 import java.io.IOException;
 import java.net.ConnectException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
-import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class TomcatManagerHtmlClient {
+    private final Map<UUID, TomcatScanPlan> plans = new ConcurrentHashMap<>();
+
     TomcatManagerFetchResult fetchSnapshot(TomcatTargetEntity target) {
-        URI managerUri;
-        try {
-            managerUri = managerHtmlUri(target);
-        } catch (RuntimeException e) {
-            return TomcatManagerFetchResult.error(TomcatScanErrorKind.UNKNOWN, e.getMessage());
+        TomcatScanPlan plan = plan(target);
+        if (plan.error() != null) {
+            return TomcatManagerFetchResult.error(TomcatScanErrorKind.UNKNOWN, plan.error());
         }
 
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofMillis(target.getConnectTimeoutMs()))
-                .followRedirects(HttpClient.Redirect.NEVER)
-                .build();
-
-        String basic = Base64.getEncoder().encodeToString(
-                (target.getUsername() + ":" + target.getPassword()).getBytes(StandardCharsets.UTF_8)
-        );
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(managerUri)
-                .timeout(Duration.ofMillis(target.getRequestTimeoutMs()))
-                .header("Authorization", "Basic " + basic)
-                .GET()
-                .build();
-
         HttpResponse<String> response;
         try {
-            response = client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            response = plan.client().send(plan.request(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
         } catch (java.net.http.HttpTimeoutException e) {
             return TomcatManagerFetchResult.error(TomcatScanErrorKind.TIMEOUT, "Timeout");
         } catch (ConnectException e) {
@@ -69,33 +51,17 @@ final class TomcatManagerHtmlClient {
         }
     }
 
-    private static URI managerHtmlUri(TomcatTargetEntity target) {
-        URI base = URI.create(target.getBaseUrl());
-        if (!base.isAbsolute()) {
-            throw new IllegalArgumentException("baseUrl must be absolute");
-        }
-        if (!"http".equalsIgnoreCase(base.getScheme()) && !"https".equalsIgnoreCase(base.getScheme())) {
-            throw new IllegalArgumentException("baseUrl scheme must be http/https");
-        }
-        if (base.getUserInfo() != null) {
-            throw new IllegalArgumentException("baseUrl must not include userinfo");
-        }
-        if (base.getHost() == null || base.getHost().isBlank()) {
-            throw new IllegalArgumentException("baseUrl must include host");
-        }
-        if (base.getPort() != -1) {
-            throw new IllegalArgumentException("baseUrl must not include port; use explicit port field");
-        }
-        String path = base.getPath();
-        if (path != null && !path.isBlank() && !"/".equals(path)) {
-            throw new IllegalArgumentException("baseUrl must not include a path");
-        }
+    void retainPlans(Set<UUID> targetIds) {
+        plans.keySet().retainAll(targetIds);
+    }
 
-        try {
-            return new URI(base.getScheme(), null, base.getHost(), target.getPort(), "/manager/html", null, null);
-        } catch (URISyntaxException e) {
-            throw new IllegalArgumentException("Invalid manager URI", e);
+    private TomcatScanPlan plan(TomcatTargetEntity target) {
+        TomcatScanPlan plan = plans.get(target.getId());
+        if (plan == null || !plan.compiledFrom(target)) {
+            plan = TomcatScanPlan.compile(target);
+            plans.put(target.getId(), plan);
         }
+        return plan;
     }
 
     record TomcatManagerFetchResult(
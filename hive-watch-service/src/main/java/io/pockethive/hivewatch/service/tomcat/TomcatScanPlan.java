@@ -0,0 +1,82 @@
+package io.pockethive.hivewatch.service.tomcat;
+
+import io.pockethive.hivewatch.service.scans.ScanHttpClients;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+// Everything a scan of one Tomcat target sends, compiled once per target configuration: the validated manager
+// URI, the Basic auth header and the timeouts are baked into a reusable request. A configuration that does not
+// validate compiles to its error, so a broken target costs nothing per scan either.
+record TomcatScanPlan(Source source, HttpClient client, HttpRequest request, String error) {
+    static TomcatScanPlan compile(TomcatTargetEntity target) {
+        Source source = Source.of(target);
+        URI managerUri;
+        try {
+            managerUri = managerHtmlUri(target);
+        } catch (RuntimeException e) {
+            return new TomcatScanPlan(source, null, null, e.getMessage());
+        }
+        String basic = Base64.getEncoder().encodeToString(
+                (target.getUsername() + ":" + target.getPassword()).getBytes(StandardCharsets.UTF_8)
+        );
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(managerUri)
+                .timeout(Duration.ofMillis(target.getRequestTimeoutMs()))
+                .header("Authorization", "Basic " + basic)
+                .GET()
+                .build();
+        return new TomcatScanPlan(source, ScanHttpClients.forConnectTimeout(target.getConnectTimeoutMs()), request, null);
+    }
+
+    boolean compiledFrom(TomcatTargetEntity target) {
+        return source.equals(Source.of(target));
+    }
+
+    private static URI managerHtmlUri(TomcatTargetEntity target) {
+        URI base = URI.create(target.getBaseUrl());
+        if (!base.isAbsolute()) {
+            throw new IllegalArgumentException("baseUrl must be absolute");
+        }
+        if (!"http".equalsIgnoreCase(base.getScheme()) && !"https".equalsIgnoreCase(base.getScheme())) {
+            throw new IllegalArgumentException("baseUrl scheme must be http/https");
+        }
+        if (base.getUserInfo() != null) {
+            throw new IllegalArgumentException("baseUrl must not include userinfo");
+        }
+        if (base.getHost() == null || base.getHost().isBlank()) {
+            throw new IllegalArgumentException("baseUrl must include host");
+        }
+        if (base.getPort() != -1) {
+            throw new IllegalArgumentException("baseUrl must not include port; use explicit port field");
+        }
+        String path = base.getPath();
+        if (path != null && !path.isBlank() && !"/".equals(path)) {
+            throw new IllegalArgumentException("baseUrl must not include a path");
+        }
+
+        try {
+            return new URI(base.getScheme(), null, base.getHost(), target.getPort(), "/manager/html", null, null);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid manager URI", e);
+        }
+    }
+
+    // The target fields a plan depends on; an update to any of them recompiles the plan.
+    record Source(String baseUrl, int port, String username, String password, int connectTimeoutMs, int requestTimeoutMs) {
+        static Source of(TomcatTargetEntity target) {
+            return new Source(
+                    target.getBaseUrl(),
+                    target.getPort(),
+                    target.getUsername(),
+                    target.getPassword(),
+                    target.getConnectTimeoutMs(),
+                    target.getRequestTimeoutMs()
+            );
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package io.pockethive.hivewatch.service.tomcat;
 
+import io.pockethive.hivewatch.service.api.TomcatScanErrorKind;
 import io.pockethive.hivewatch.service.api.TomcatTargetDto;
+import io.pockethive.hivewatch.service.decision.DecisionEngine;
 import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
 import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
+import io.pockethive.hivewatch.service.observations.Observation;
+import io.pockethive.hivewatch.service.observations.ObservationBus;
+import io.pockethive.hivewatch.service.observations.ObservationSource;
+import io.pockethive.hivewatch.service.scans.ScanStateWriter;
+import io.pockethive.hivewatch.service.state.ScanOutcome;
+import io.pockethive.hivewatch.service.state.ScanStateChangedEvent;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -20,21 +30,33 @@ public class TomcatScanService {
     private final TomcatTargetRepository tomcatTargetRepository;
     private final TomcatTargetScanStateRepository tomcatTargetScanStateRepository;
     private final TomcatTargetService tomcatTargetService;
+    private final DecisionEngine decisionEngine;
+    private final ScanStateWriter scanStateWriter;
+    private final ObservationBus observationBus;
+    private final ApplicationEventPublisher eventPublisher;
     private final TomcatManagerHtmlClient tomcatManagerHtmlClient = new TomcatManagerHtmlClient();
 
     public TomcatScanService(
             ServerRepository serverRepository,
             TomcatTargetRepository tomcatTargetRepository,
             TomcatTargetScanStateRepository tomcatTargetScanStateRepository,
-            TomcatTargetService tomcatTargetService
+            TomcatTargetService tomcatTargetService,
+            DecisionEngine decisionEngine,
+            ScanStateWriter scanStateWriter,
+            ObservationBus observationBus,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.serverRepository = serverRepository;
         this.tomcatTargetRepository = tomcatTargetRepository;
         this.tomcatTargetScanStateRepository = tomcatTargetScanStateRepository;
         this.tomcatTargetService = tomcatTargetService;
+        this.decisionEngine = decisionEngine;
+        this.scanStateWriter = scanStateWriter;
+        this.observationBus = observationBus;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Transactional
+    // Not transactional: the HTTP fetch must not hold a DB connection; each state save commits on its own.
     public List<TomcatTargetDto> scanEnvironment(UUID environmentId) {
         List<ServerEntity> servers = serverRepository.findByEnvironmentId(environmentId);
         if (servers.isEmpty()) {
@@ -43,8 +65,9 @@ public class TomcatScanService {
         Map<UUID, ServerEntity> serverById = servers.stream().collect(java.util.stream.Collectors.toMap(ServerEntity::getId, Function.identity()));
         List<TomcatTargetEntity> targets = tomcatTargetRepository.findByServerIdIn(servers.stream().map(ServerEntity::getId).toList());
         for (TomcatTargetEntity target : targets) {
-            scanInternal(target);
+            scan(target);
         }
+        eventPublisher.publishEvent(new ScanStateChangedEvent(environmentId));
         Map<UUID, TomcatTargetScanStateEntity> states = tomcatTargetScanStateRepository
                 .findAllById(targets.stream().map(TomcatTargetEntity::getId).toList())
                 .stream()
@@ -52,24 +75,47 @@ public class TomcatScanService {
         return targets.stream().map(t -> TomcatTargetService.toDto(t, serverById.get(t.getServerId()), states.get(t.getId()))).toList();
     }
 
-    @Transactional
     public TomcatTargetDto scanTarget(UUID targetId) {
         TomcatTargetEntity target = tomcatTargetRepository.findById(targetId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Tomcat target not found"));
 
-        scanInternal(target);
+        scan(target);
 
         TomcatTargetScanStateEntity state = tomcatTargetScanStateRepository.findById(targetId).orElse(null);
         ServerEntity server = serverRepository.findById(target.getServerId()).orElse(null);
+        if (server != null) {
+            eventPublisher.publishEvent(new ScanStateChangedEvent(server.getEnvironmentId()));
+        }
         return TomcatTargetService.toDto(target, server, state);
     }
 
-    private void scanInternal(TomcatTargetEntity target) {
+    public ScanOutcome scan(TomcatTargetEntity target) {
         Instant now = Instant.now();
         TomcatManagerHtmlClient.TomcatManagerFetchResult result = tomcatManagerHtmlClient.fetchSnapshot(target);
+        if (Thread.currentThread().isInterrupted()) {
+            // Cancelled by the scan deadline; the canceller records the TIMEOUT state.
+            return ScanOutcome.TIMEOUT;
+        }
         TomcatTargetScanStateEntity state = result.ok()
                 ? TomcatTargetService.successState(target.getId(), now, result.tomcatVersion(), result.javaVersion(), result.os(), result.webapps())
                 : TomcatTargetService.errorState(target.getId(), now, result.errorKind(), result.errorMessage());
-        tomcatTargetScanStateRepository.save(state);
+        scanStateWriter.upsert(state);
+        decisionEngine.recordSample(target.getId(), now, !result.ok(), null, null);
+        observationBus.publish(new Observation(ObservationSource.TOMCAT, target.getId(), now, result.errorKind(), null, null));
+        return new ScanOutcome(
+                result.ok(),
+                Objects.hash(result.errorKind(), result.tomcatVersion(), result.javaVersion(), result.webapps())
+        );
+    }
+
+    public void retainPlans(Set<UUID> targetIds) {
+        tomcatManagerHtmlClient.retainPlans(targetIds);
+    }
+
+    public void recordTimeout(TomcatTargetEntity target, String message) {
+        Instant now = Instant.now();
+        scanStateWriter.upsert(TomcatTargetService.errorState(target.getId(), now, TomcatScanErrorKind.TIMEOUT, message));
+        decisionEngine.recordSample(target.getId(), now, true, null, null);
+        observationBus.publish(new Observation(ObservationSource.TOMCAT, target.getId(), now, TomcatScanErrorKind.TIMEOUT, null, null));
     }
 }
@@ -1,9 +1,13 @@
 package io.pockethive.hivewatch.service.tomcat;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface TomcatTargetRepository extends JpaRepository<TomcatTargetEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TomcatTargetEntity> findByServerIdIn(List<UUID> serverIds);
 }
@@ -7,14 +7,14 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "hw_tomcat_target_scan_state")
@@ -46,9 +46,9 @@ public class TomcatTargetScanStateEntity {
     @Column(name = "os")
     private String os;
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "webapps", nullable = false, columnDefinition = "jsonb")
-    private List<TomcatWebappDto> webapps = new ArrayList<>();
+    @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    @JoinColumn(name = "webapp_set_hash", nullable = false)
+    private TomcatWebappSetEntity webappSet;
 
     protected TomcatTargetScanStateEntity() {
     }
@@ -72,7 +72,7 @@ public class TomcatTargetScanStateEntity {
         this.tomcatVersion = tomcatVersion;
         this.javaVersion = javaVersion;
         this.os = os;
-        this.webapps = webapps == null ? new ArrayList<>() : new ArrayList<>(webapps);
+        this.webappSet = TomcatWebappSetEntity.of(webapps);
     }
 
     public UUID getTargetId() {
@@ -107,7 +107,11 @@ public class TomcatTargetScanStateEntity {
         return os;
     }
 
+    public String getWebappSetHash() {
+        return webappSet.getHash();
+    }
+
     public List<TomcatWebappDto> getWebapps() {
-        return List.copyOf(webapps);
+        return webappSet.getWebapps();
     }
 }
@@ -7,15 +7,18 @@ import io.pockethive.hivewatch.service.api.TomcatTargetDto;
 import io.pockethive.hivewatch.service.api.TomcatTargetStateDto;
 import io.pockethive.hivewatch.service.api.TomcatTargetUpdateRequestDto;
 import io.pockethive.hivewatch.service.api.TomcatWebappDto;
+import io.pockethive.hivewatch.service.decision.DecisionEngine;
 import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
 import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
 import io.pockethive.hivewatch.service.environments.EnvironmentRepository;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
 import java.net.URI;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -29,17 +32,23 @@ public class TomcatTargetService {
     private final ServerRepository serverRepository;
     private final TomcatTargetRepository tomcatTargetRepository;
     private final TomcatTargetScanStateRepository tomcatTargetScanStateRepository;
+    private final DecisionEngine decisionEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TomcatTargetService(
             EnvironmentRepository environmentRepository,
             ServerRepository serverRepository,
             TomcatTargetRepository tomcatTargetRepository,
-            TomcatTargetScanStateRepository tomcatTargetScanStateRepository
+            TomcatTargetScanStateRepository tomcatTargetScanStateRepository,
+            DecisionEngine decisionEngine,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.environmentRepository = environmentRepository;
         this.serverRepository = serverRepository;
         this.tomcatTargetRepository = tomcatTargetRepository;
         this.tomcatTargetScanStateRepository = tomcatTargetScanStateRepository;
+        this.decisionEngine = decisionEngine;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -94,6 +103,7 @@ public class TomcatTargetService {
                 Instant.now()
         ));
 
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return toDto(created, server, null);
     }
 
@@ -129,7 +139,9 @@ public class TomcatTargetService {
                 existing.getCreatedAt()
         ));
         tomcatTargetScanStateRepository.deleteById(updated.getId());
+        decisionEngine.forgetTarget(updated.getId());
 
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
         return toDto(updated, server, null);
     }
 
@@ -144,6 +156,8 @@ public class TomcatTargetService {
             throw new ResponseStatusException(NOT_FOUND, "Tomcat target not found");
         }
         tomcatTargetRepository.deleteById(targetId);
+        decisionEngine.forgetTarget(targetId);
+        eventPublisher.publishEvent(new ConfigChangedEvent(environmentId));
     }
 
     private void requireEnvironment(UUID environmentId) {
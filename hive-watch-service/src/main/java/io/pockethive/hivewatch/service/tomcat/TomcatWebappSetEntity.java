@@ -0,0 +1,84 @@
+package io.pockethive.hivewatch.service.tomcat;
+
+import io.pockethive.hivewatch.service.api.TomcatWebappDto;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+// A webapp set is identified by the hash of its content, so a row never changes once written.
+@Entity
+@Immutable
+@Table(name = "hw_tomcat_webapp_sets")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "hw-tomcat-webapp-sets")
+public class TomcatWebappSetEntity {
+    @Id
+    @Column(name = "hash", nullable = false)
+    private String hash;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "webapps", nullable = false, columnDefinition = "jsonb")
+    private List<TomcatWebappDto> webapps = new ArrayList<>();
+
+    protected TomcatWebappSetEntity() {
+    }
+
+    private TomcatWebappSetEntity(String hash, List<TomcatWebappDto> webapps) {
+        this.hash = hash;
+        this.webapps = new ArrayList<>(webapps);
+    }
+
+    public static TomcatWebappSetEntity of(List<TomcatWebappDto> webapps) {
+        List<TomcatWebappDto> list = webapps == null ? List.of() : webapps;
+        return new TomcatWebappSetEntity(hashOf(list), list);
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public List<TomcatWebappDto> getWebapps() {
+        return List.copyOf(webapps);
+    }
+
+    // SHA-256 over (path, name, version) in list order; a null field hashes differently from an empty one.
+    static String hashOf(List<TomcatWebappDto> webapps) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        for (TomcatWebappDto webapp : webapps) {
+            update(digest, webapp.path());
+            update(digest, webapp.name());
+            update(digest, webapp.version());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+}
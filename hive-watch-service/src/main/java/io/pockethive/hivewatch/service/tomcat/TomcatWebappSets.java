@@ -0,0 +1,83 @@
+package io.pockethive.hivewatch.service.tomcat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.pockethive.hivewatch.service.api.TomcatWebappDto;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Read side of the shared webapp sets. Sets are content-addressed, so a cached set never goes stale; entries are
+// interned so targets running the same webapps share one instance per webapp.
+@Component
+public class TomcatWebappSets {
+    private static final TypeReference<List<TomcatWebappDto>> WEBAPPS_TYPE = new TypeReference<>() {
+    };
+    private static final int MAX_CACHED_SETS = 2_000;
+    private static final int MAX_INTERNED_WEBAPPS = 50_000;
+
+    private static final String SETS_SQL = """
+            select hash, webapps::text as webapps from hw_tomcat_webapp_sets where hash in (:hashes)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<TomcatWebappDto>> sets = new ConcurrentHashMap<>();
+    private final Map<TomcatWebappDto, TomcatWebappDto> webapps = new ConcurrentHashMap<>();
+
+    public TomcatWebappSets(NamedParameterJdbcTemplate jdbc, ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+    }
+
+    // Unknown hashes (a set pruned between the caller's read and this one) are left out of the result.
+    public Map<String, List<TomcatWebappDto>> resolve(Collection<String> hashes) {
+        Map<String, List<TomcatWebappDto>> resolved = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String hash : hashes) {
+            List<TomcatWebappDto> set = sets.get(hash);
+            if (set != null) {
+                resolved.put(hash, set);
+            } else {
+                missing.add(hash);
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbc.query(SETS_SQL, Map.of("hashes", missing), rs -> {
+                List<TomcatWebappDto> set = intern(parse(rs.getString("webapps")));
+                cache(rs.getString("hash"), set);
+                resolved.put(rs.getString("hash"), set);
+            });
+        }
+        return resolved;
+    }
+
+    List<TomcatWebappDto> intern(List<TomcatWebappDto> set) {
+        if (webapps.size() >= MAX_INTERNED_WEBAPPS) {
+            webapps.clear();
+        }
+        return set.stream().map(w -> webapps.computeIfAbsent(w, k -> k)).toList();
+    }
+
+    private void cache(String hash, List<TomcatWebappDto> set) {
+        if (sets.size() >= MAX_CACHED_SETS) {
+            sets.clear();
+        }
+        sets.put(hash, set);
+    }
+
+    private List<TomcatWebappDto> parse(String json) {
+        try {
+            return objectMapper.readValue(json, WEBAPPS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid webapps json in tomcat webapp set", e);
+        }
+    }
+}
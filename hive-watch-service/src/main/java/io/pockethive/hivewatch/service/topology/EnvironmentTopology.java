@@ -0,0 +1,47 @@
+package io.pockethive.hivewatch.service.topology;
+
+import io.pockethive.hivewatch.service.actuator.ActuatorTargetEntity;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceEntity;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecEntity;
+import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecEntity;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
+import io.pockethive.hivewatch.service.tomcat.expected.TomcatExpectedWebappEntity;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public record EnvironmentTopology(
+        EnvironmentEntity environment,
+        List<ServerEntity> servers,
+        List<TomcatTargetEntity> tomcatTargets,
+        List<ActuatorTargetEntity> actuatorTargets,
+        List<TomcatExpectedWebappSpecEntity> tomcatExpectedWebappSpecs,
+        List<TomcatExpectedWebappEntity> tomcatExpectedWebapps,
+        List<DockerExpectedServiceSpecEntity> dockerExpectedServiceSpecs,
+        List<DockerExpectedServiceEntity> dockerExpectedServices
+) {
+    public EnvironmentTopology {
+        servers = List.copyOf(servers);
+        tomcatTargets = List.copyOf(tomcatTargets);
+        actuatorTargets = List.copyOf(actuatorTargets);
+        tomcatExpectedWebappSpecs = List.copyOf(tomcatExpectedWebappSpecs);
+        tomcatExpectedWebapps = List.copyOf(tomcatExpectedWebapps);
+        dockerExpectedServiceSpecs = List.copyOf(dockerExpectedServiceSpecs);
+        dockerExpectedServices = List.copyOf(dockerExpectedServices);
+    }
+
+    public UUID id() {
+        return environment.getId();
+    }
+
+    public Map<UUID, ServerEntity> serverById() {
+        Map<UUID, ServerEntity> byId = new LinkedHashMap<>();
+        for (ServerEntity server : servers) {
+            byId.put(server.getId(), server);
+        }
+        return byId;
+    }
+}
@@ -0,0 +1,102 @@
+package io.pockethive.hivewatch.service.topology;
+
+import io.pockethive.hivewatch.service.actuator.ActuatorTargetEntity;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
+import io.pockethive.hivewatch.service.expectedsets.ExpectedSetTemplateItemEntity;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceEntity;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecEntity;
+import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecEntity;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
+import io.pockethive.hivewatch.service.tomcat.expected.TomcatExpectedWebappEntity;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+// The whole configured topology at one config version, read in a single transaction and replaced wholesale,
+// so readers never observe half of a mutation. The entities are detached and shared across threads: read-only.
+public record TopologySnapshot(
+        long version,
+        Instant builtAt,
+        Map<UUID, EnvironmentTopology> environments,
+        Map<UUID, List<String>> templateItems
+) {
+    public TopologySnapshot {
+        environments = Collections.unmodifiableMap(new LinkedHashMap<>(environments));
+        templateItems = Map.copyOf(templateItems);
+    }
+
+    public Optional<EnvironmentTopology> environment(UUID environmentId) {
+        return Optional.ofNullable(environments.get(environmentId));
+    }
+
+    public List<String> templateItems(UUID templateId) {
+        return templateId == null ? List.of() : templateItems.getOrDefault(templateId, List.of());
+    }
+
+    static TopologySnapshot of(long version, Instant builtAt, Rows rows) {
+        Map<UUID, UUID> environmentByServer = new HashMap<>();
+        for (ServerEntity server : rows.servers()) {
+            environmentByServer.put(server.getId(), server.getEnvironmentId());
+        }
+        Map<UUID, List<ServerEntity>> servers = byEnvironment(rows.servers(), ServerEntity::getEnvironmentId);
+        Map<UUID, List<TomcatTargetEntity>> tomcatTargets = byEnvironment(rows.tomcatTargets(), t -> environmentByServer.get(t.getServerId()));
+        Map<UUID, List<ActuatorTargetEntity>> actuatorTargets = byEnvironment(rows.actuatorTargets(), t -> environmentByServer.get(t.getServerId()));
+        Map<UUID, List<TomcatExpectedWebappSpecEntity>> tomcatSpecs = byEnvironment(rows.tomcatExpectedWebappSpecs(), s -> environmentByServer.get(s.getServerId()));
+        Map<UUID, List<TomcatExpectedWebappEntity>> tomcatExpected = byEnvironment(rows.tomcatExpectedWebapps(), e -> environmentByServer.get(e.getServerId()));
+        Map<UUID, List<DockerExpectedServiceSpecEntity>> dockerSpecs = byEnvironment(rows.dockerExpectedServiceSpecs(), s -> environmentByServer.get(s.getServerId()));
+        Map<UUID, List<DockerExpectedServiceEntity>> dockerExpected = byEnvironment(rows.dockerExpectedServices(), e -> environmentByServer.get(e.getServerId()));
+
+        Map<UUID, EnvironmentTopology> environments = new LinkedHashMap<>();
+        for (EnvironmentEntity env : rows.environments()) {
+            UUID id = env.getId();
+            environments.put(id, new EnvironmentTopology(
+                    env,
+                    servers.getOrDefault(id, List.of()),
+                    tomcatTargets.getOrDefault(id, List.of()),
+                    actuatorTargets.getOrDefault(id, List.of()),
+                    tomcatSpecs.getOrDefault(id, List.of()),
+                    tomcatExpected.getOrDefault(id, List.of()),
+                    dockerSpecs.getOrDefault(id, List.of()),
+                    dockerExpected.getOrDefault(id, List.of())
+            ));
+        }
+        Map<UUID, List<String>> templateItems = new HashMap<>();
+        for (ExpectedSetTemplateItemEntity item : rows.templateItems()) {
+            templateItems.computeIfAbsent(item.getTemplateId(), ignored -> new ArrayList<>()).add(item.getValue());
+        }
+        templateItems.replaceAll((id, values) -> List.copyOf(values));
+        return new TopologySnapshot(version, builtAt, environments, templateItems);
+    }
+
+    private static <T> Map<UUID, List<T>> byEnvironment(List<T> rows, Function<T, UUID> environmentOf) {
+        Map<UUID, List<T>> grouped = new HashMap<>();
+        for (T row : rows) {
+            UUID environmentId = environmentOf.apply(row);
+            if (environmentId != null) {
+                grouped.computeIfAbsent(environmentId, ignored -> new ArrayList<>()).add(row);
+            }
+        }
+        return grouped;
+    }
+
+    record Rows(
+            List<EnvironmentEntity> environments,
+            List<ServerEntity> servers,
+            List<TomcatTargetEntity> tomcatTargets,
+            List<ActuatorTargetEntity> actuatorTargets,
+            List<TomcatExpectedWebappSpecEntity> tomcatExpectedWebappSpecs,
+            List<TomcatExpectedWebappEntity> tomcatExpectedWebapps,
+            List<DockerExpectedServiceSpecEntity> dockerExpectedServiceSpecs,
+            List<DockerExpectedServiceEntity> dockerExpectedServices,
+            List<ExpectedSetTemplateItemEntity> templateItems
+    ) {
+    }
+}
@@ -0,0 +1,142 @@
+package io.pockethive.hivewatch.service.topology;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.pockethive.hivewatch.service.actuator.ActuatorTargetRepository;
+import io.pockethive.hivewatch.service.environments.EnvironmentRepository;
+import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
+import io.pockethive.hivewatch.service.expectedsets.ExpectedSetTemplateItemRepository;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceRepository;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecRepository;
+import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecRepository;
+import io.pockethive.hivewatch.service.state.ConfigChangedEvent;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetRepository;
+import io.pockethive.hivewatch.service.tomcat.expected.TomcatExpectedWebappRepository;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Holds the current TopologySnapshot. Reads are a volatile load; a rebuild runs only after a config change
+// commits (locally or on another node) and swaps the new snapshot in atomically.
+@Component
+public class TopologySnapshots {
+    private static final Logger log = LoggerFactory.getLogger(TopologySnapshots.class);
+
+    private final EnvironmentRepository environmentRepository;
+    private final ServerRepository serverRepository;
+    private final TomcatTargetRepository tomcatTargetRepository;
+    private final ActuatorTargetRepository actuatorTargetRepository;
+    private final TomcatExpectedWebappSpecRepository tomcatExpectedWebappSpecRepository;
+    private final TomcatExpectedWebappRepository tomcatExpectedWebappRepository;
+    private final DockerExpectedServiceSpecRepository dockerExpectedServiceSpecRepository;
+    private final DockerExpectedServiceRepository dockerExpectedServiceRepository;
+    private final ExpectedSetTemplateItemRepository expectedSetTemplateItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer rebuildTimer;
+    private final Object rebuildLock = new Object();
+    private volatile TopologySnapshot snapshot;
+    private volatile boolean stale = true;
+    private long nextVersion = 1;
+
+    public TopologySnapshots(
+            EnvironmentRepository environmentRepository,
+            ServerRepository serverRepository,
+            TomcatTargetRepository tomcatTargetRepository,
+            ActuatorTargetRepository actuatorTargetRepository,
+            TomcatExpectedWebappSpecRepository tomcatExpectedWebappSpecRepository,
+            TomcatExpectedWebappRepository tomcatExpectedWebappRepository,
+            DockerExpectedServiceSpecRepository dockerExpectedServiceSpecRepository,
+            DockerExpectedServiceRepository dockerExpectedServiceRepository,
+            ExpectedSetTemplateItemRepository expectedSetTemplateItemRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.environmentRepository = environmentRepository;
+        this.serverRepository = serverRepository;
+        this.tomcatTargetRepository = tomcatTargetRepository;
+        this.actuatorTargetRepository = actuatorTargetRepository;
+        this.tomcatExpectedWebappSpecRepository = tomcatExpectedWebappSpecRepository;
+        this.tomcatExpectedWebappRepository = tomcatExpectedWebappRepository;
+        this.dockerExpectedServiceSpecRepository = dockerExpectedServiceSpecRepository;
+        this.dockerExpectedServiceRepository = dockerExpectedServiceRepository;
+        this.expectedSetTemplateItemRepository = expectedSetTemplateItemRepository;
+        // A fresh transaction, since rebuilds run after the triggering commit. Deliberately not read-only: a
+        // lagging replica could still miss that commit and the snapshot would be stale until the next change.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTimer = meterRegistry.timer("hivewatch.topology.rebuild");
+        Gauge.builder("hivewatch.topology.version", this, s -> s.snapshot == null ? 0 : s.snapshot.version())
+                .register(meterRegistry);
+    }
+
+    // Only the first read, or a read after a failed rebuild, builds inline; the latter falls back to the old snapshot.
+    public TopologySnapshot current() {
+        TopologySnapshot current = snapshot;
+        if (current != null && !stale) {
+            return current;
+        }
+        try {
+            return rebuild();
+        } catch (RuntimeException e) {
+            if (current == null) {
+                throw e;
+            }
+            return current;
+        }
+    }
+
+    // Ahead of EnvironmentRevisions: a status fragment cached under the new config revision must already see the
+    // new topology. Changes get here after SecondLevelCacheEvictor, so they are reloaded from the database.
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConfigChanged(ConfigChangedEvent event) {
+        stale = true;
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Topology snapshot rebuild failed; retrying on the next read: {}", e.getMessage());
+        }
+    }
+
+    private TopologySnapshot rebuild() {
+        synchronized (rebuildLock) {
+            TopologySnapshot current = snapshot;
+            if (current != null && !stale) {
+                return current;
+            }
+            // Cleared before reading, so a change committed while we read marks the result stale again.
+            stale = false;
+            try {
+                TopologySnapshot.Rows rows = rebuildTimer.record(() -> transactionTemplate.execute(status -> load()));
+                TopologySnapshot next = TopologySnapshot.of(nextVersion++, Instant.now(), rows);
+                snapshot = next;
+                return next;
+            } catch (RuntimeException e) {
+                stale = true;
+                throw e;
+            }
+        }
+    }
+
+    private TopologySnapshot.Rows load() {
+        return new TopologySnapshot.Rows(
+                environmentRepository.findAll(),
+                serverRepository.findAll(),
+                tomcatTargetRepository.findAll(),
+                actuatorTargetRepository.findAll(),
+                tomcatExpectedWebappSpecRepository.findAll(),
+                tomcatExpectedWebappRepository.findAll(),
+                dockerExpectedServiceSpecRepository.findAll(),
+                dockerExpectedServiceRepository.findAll(),
+                expectedSetTemplateItemRepository.findAll()
+        );
+    }
+}
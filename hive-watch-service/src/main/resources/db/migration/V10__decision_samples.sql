@@ -0,0 +1,11 @@
+-- Recent scan samples per target, written by the node that scanned it when scan leases are enabled. Other nodes
+-- rebuild their decision windows from here, so damping and windowed rules agree whichever node answers.
+-- Trimmed to the sample window on every insert; removed when the target is updated or deleted.
+create table if not exists hw_decision_samples (
+  target_id uuid not null,
+  scanned_at timestamptz not null,
+  failed boolean not null,
+  cpu_usage double precision null,
+  memory_used_bytes bigint null,
+  primary key (target_id, scanned_at)
+);
@@ -0,0 +1,37 @@
+create table if not exists hw_decision_policy (
+  id uuid primary key,
+  version bigint not null,
+  updated_at timestamptz not null default now()
+);
+
+create table if not exists hw_decision_rules (
+  id uuid primary key,
+  policy_id uuid not null references hw_decision_policy(id) on delete cascade,
+  position integer not null,
+  metric text not null,
+  comparator text not null,
+  threshold double precision not null,
+  severity text not null,
+  scope text not null,
+  scope_value text null,
+  created_at timestamptz not null default now(),
+
+  constraint hw_decision_rules_severity check (severity in ('WARN', 'BLOCK')),
+  constraint hw_decision_rules_scope_value check (scope = 'GLOBAL' or scope_value is not null),
+  constraint hw_decision_rules_policy_position_unique unique (policy_id, position)
+);
+
+create index if not exists hw_decision_rules_policy_id_idx on hw_decision_rules(policy_id);
+
+-- Default policy: same thresholds DecisionEngine used to hard-code.
+insert into hw_decision_policy(id, version)
+values ('dddddddd-dddd-dddd-dddd-dddddddd0001', 1)
+on conflict (id) do nothing;
+
+insert into hw_decision_rules(id, policy_id, position, metric, comparator, threshold, severity, scope, scope_value)
+values
+  ('dddddddd-dddd-dddd-dddd-dddddddd1001', 'dddddddd-dddd-dddd-dddd-dddddddd0001', 0, 'CPU_USAGE', 'GTE', 0.75, 'WARN', 'GLOBAL', null),
+  ('dddddddd-dddd-dddd-dddd-dddddddd1002', 'dddddddd-dddd-dddd-dddd-dddddddd0001', 1, 'CPU_USAGE', 'GTE', 0.90, 'BLOCK', 'GLOBAL', null),
+  ('dddddddd-dddd-dddd-dddd-dddddddd1003', 'dddddddd-dddd-dddd-dddd-dddddddd0001', 2, 'MEMORY_USED_BYTES', 'GTE', 943718400, 'WARN', 'GLOBAL', null),
+  ('dddddddd-dddd-dddd-dddd-dddddddd1004', 'dddddddd-dddd-dddd-dddd-dddddddd0001', 3, 'MEMORY_USED_BYTES', 'GTE', 1572864000, 'BLOCK', 'GLOBAL', null)
+on conflict (id) do nothing;
@@ -0,0 +1,2 @@
+alter table hw_decision_rules
+  add column if not exists aggregation text not null default 'LATEST';
@@ -0,0 +1,15 @@
+-- Multi-node scanning: every target is leased to at most one node at a time. Lease rows are synced from
+-- the target tables by the scheduler; leases of a node that stops heartbeating expire and are re-claimed.
+create table if not exists hw_scan_nodes (
+  node_id text primary key,
+  heartbeat_at timestamptz not null
+);
+
+create table if not exists hw_scan_leases (
+  target_id uuid primary key,
+  owner text null,
+  lease_until timestamptz null,
+  updated_at timestamptz not null default now()
+);
+
+create index if not exists hw_scan_leases_owner_idx on hw_scan_leases(owner);
@@ -0,0 +1,29 @@
+-- Content-addressed webapp sets. Tomcats running the same deployment report the same set, so scan state
+-- references one shared row by hash instead of rewriting its own jsonb copy on every scan.
+create table if not exists hw_tomcat_webapp_sets (
+  hash text primary key,
+  webapps jsonb not null,
+  created_at timestamptz not null default now()
+);
+
+-- Backfill under a SQL-side hash; the first scan of each target re-points it at the application's hash and
+-- the backfilled sets are pruned once unreferenced.
+insert into hw_tomcat_webapp_sets(hash, webapps)
+select distinct on (h.hash) h.hash, h.webapps
+from (
+  select 'legacy:' || md5(webapps::text) as hash, webapps from hw_tomcat_target_scan_state
+) h
+on conflict (hash) do nothing;
+
+alter table hw_tomcat_target_scan_state add column webapp_set_hash text;
+
+update hw_tomcat_target_scan_state set webapp_set_hash = 'legacy:' || md5(webapps::text);
+
+alter table hw_tomcat_target_scan_state
+  alter column webapp_set_hash set not null,
+  add constraint hw_tomcat_target_scan_state_webapp_set_fk
+    foreign key (webapp_set_hash) references hw_tomcat_webapp_sets(hash),
+  drop column webapps;
+
+create index if not exists hw_tomcat_target_scan_state_webapp_set_hash_idx
+  on hw_tomcat_target_scan_state(webapp_set_hash);
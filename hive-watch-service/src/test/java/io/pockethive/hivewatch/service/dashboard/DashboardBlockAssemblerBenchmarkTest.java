@@ -0,0 +1,53 @@
+package io.pockethive.hivewatch.service.dashboard;
+
+import io.pockethive.hivewatch.service.api.DashboardEnvironmentBlockDto;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Reports serial vs parallel assembly time around the parallel-assembly-threshold. Timings depend on the cores
+// available to the JVM, so the test logs them rather than asserting a speedup; run it on the target host to tune
+// hivewatch.dashboard.assembly-parallelism and parallel-assembly-threshold.
+class DashboardBlockAssemblerBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(DashboardBlockAssemblerBenchmarkTest.class);
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+    private static final int SERVERS_PER_ENVIRONMENT = 8;
+    private static final int PARALLELISM = 4;
+
+    @Test
+    void reportsSerialAndParallelTimings() {
+        for (int environments : new int[] {16, 50, 100}) {
+            DashboardBlockFixture fixture = DashboardBlockFixture.generate(environments, SERVERS_PER_ENVIRONMENT);
+            DashboardBlockAssembler serial = fixture.assembler(1, 0);
+            DashboardBlockAssembler parallel = fixture.assembler(PARALLELISM, 1);
+            try {
+                assertEquals(fixture.assemble(serial), fixture.assemble(parallel));
+
+                long serialNanos = time(fixture, serial);
+                long parallelNanos = time(fixture, parallel);
+
+                log.info("Dashboard assembly over {} environments on {} cpus: serial {} us/op, parallel({}) {} us/op",
+                        environments, Runtime.getRuntime().availableProcessors(),
+                        serialNanos / ITERATIONS / 1_000, PARALLELISM, parallelNanos / ITERATIONS / 1_000);
+            } finally {
+                parallel.shutdown();
+            }
+        }
+    }
+
+    private static long time(DashboardBlockFixture fixture, DashboardBlockAssembler assembler) {
+        for (int i = 0; i < WARMUP; i++) {
+            fixture.assemble(assembler);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<DashboardEnvironmentBlockDto> blocks = fixture.assemble(assembler);
+            assertEquals(fixture.environments().size(), blocks.size());
+        }
+        return System.nanoTime() - start;
+    }
+}
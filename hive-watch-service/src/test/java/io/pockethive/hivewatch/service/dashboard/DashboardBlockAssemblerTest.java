@@ -0,0 +1,33 @@
+package io.pockethive.hivewatch.service.dashboard;
+
+import io.pockethive.hivewatch.service.api.DashboardEnvironmentBlockDto;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DashboardBlockAssemblerTest {
+    private static final int ENVIRONMENTS = 60;
+    private static final int SERVERS_PER_ENVIRONMENT = 8;
+
+    @Test
+    void parallelAssemblyMatchesSerialOrderAndContent() {
+        DashboardBlockFixture fixture = DashboardBlockFixture.generate(ENVIRONMENTS, SERVERS_PER_ENVIRONMENT);
+
+        DashboardBlockAssembler serial = fixture.assembler(1, 0);
+        DashboardBlockAssembler parallel = fixture.assembler(4, 1);
+        try {
+            List<DashboardEnvironmentBlockDto> expected = fixture.assemble(serial);
+            List<DashboardEnvironmentBlockDto> actual = fixture.assemble(parallel);
+
+            assertEquals(expected, actual);
+            assertEquals(
+                    fixture.environments().stream().map(EnvironmentEntity::getId).toList(),
+                    actual.stream().map(DashboardEnvironmentBlockDto::id).toList()
+            );
+        } finally {
+            parallel.shutdown();
+        }
+    }
+}
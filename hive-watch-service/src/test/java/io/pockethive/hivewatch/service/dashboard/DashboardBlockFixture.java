@@ -0,0 +1,106 @@
+package io.pockethive.hivewatch.service.dashboard;
+
+import io.pockethive.hivewatch.service.api.DashboardEnvironmentBlockDto;
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.api.TomcatScanErrorKind;
+import io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind;
+import io.pockethive.hivewatch.service.api.TomcatWebappDto;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.ActuatorStateRow;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.ActuatorTargetRow;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.TomcatStateRow;
+import io.pockethive.hivewatch.service.dashboard.DashboardReadRepository.TomcatTargetRow;
+import io.pockethive.hivewatch.service.decision.DecisionEngine;
+import io.pockethive.hivewatch.service.decision.DecisionProperties;
+import io.pockethive.hivewatch.service.decision.DecisionSampleRepository;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.expectedsets.EncodedSet;
+import io.pockethive.hivewatch.service.expectedsets.ExpectedSetDictionary;
+import io.pockethive.hivewatch.service.scans.ScanCadence;
+import io.pockethive.hivewatch.service.scans.ScanCadenceProperties;
+import io.pockethive.hivewatch.service.scans.ScanDemand;
+import io.pockethive.hivewatch.service.scans.ScanDemandProperties;
+import io.pockethive.hivewatch.service.scans.ScanLeaseProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+
+// Synthetic dashboard rows: every server carries one tomcat and one actuator target per role, with a mix of
+// failed scans and DOWN services so assembly exercises the decision rules.
+record DashboardBlockFixture(
+        List<EnvironmentEntity> environments,
+        Map<UUID, List<TomcatTargetRow>> tomcatsByEnv,
+        Map<UUID, List<ActuatorTargetRow>> actuatorsByEnv,
+        ExpectedSetDictionary dictionary,
+        Instant now
+) {
+    static DashboardBlockFixture generate(int environmentCount, int serversPerEnvironment) {
+        List<EnvironmentEntity> environments = new ArrayList<>();
+        Map<UUID, List<TomcatTargetRow>> tomcatsByEnv = new HashMap<>();
+        Map<UUID, List<ActuatorTargetRow>> actuatorsByEnv = new HashMap<>();
+        Instant now = Instant.now();
+        ExpectedSetDictionary dictionary = new ExpectedSetDictionary();
+        EncodedSet expectedPaths = dictionary.encode(List.of("/App1"));
+        EncodedSet noProfiles = dictionary.encode(List.of());
+
+        for (int e = 0; e < environmentCount; e++) {
+            UUID envId = UUID.randomUUID();
+            environments.add(new EnvironmentEntity(envId, String.format("ENV-%03d", e)));
+            List<TomcatTargetRow> tomcats = new ArrayList<>();
+            List<ActuatorTargetRow> actuators = new ArrayList<>();
+            for (int s = 0; s < serversPerEnvironment; s++) {
+                UUID serverId = UUID.randomUUID();
+                String serverName = "Server-" + s;
+                for (TomcatRole role : TomcatRole.values()) {
+                    boolean failed = (e + s) % 7 == 0;
+                    tomcats.add(new TomcatTargetRow(
+                            envId, serverId, serverName, UUID.randomUUID(), role, "http://tomcat-" + s, 8080, expectedPaths,
+                            new TomcatStateRow(
+                                    now,
+                                    failed ? TomcatScanOutcomeKind.ERROR : TomcatScanOutcomeKind.SUCCESS,
+                                    failed ? TomcatScanErrorKind.TIMEOUT : null,
+                                    failed ? "timed out" : null,
+                                    "10.1", "21", "Linux", "set-" + (s % 2),
+                                    List.of(new TomcatWebappDto("/App1", "App1", "1." + (s % 2)))
+                            )
+                    ));
+                    actuators.add(new ActuatorTargetRow(
+                            envId, serverId, serverName, UUID.randomUUID(), role, "http://docker-" + s, 8080,
+                            role.name().toLowerCase(), noProfiles,
+                            new ActuatorStateRow(now, TomcatScanOutcomeKind.SUCCESS, null, null,
+                                    s % 5 == 0 ? "DOWN" : "UP", "app", "2.0", 0.5, 512L * 1024 * 1024)
+                    ));
+                }
+            }
+            tomcatsByEnv.put(envId, tomcats);
+            actuatorsByEnv.put(envId, actuators);
+        }
+        return new DashboardBlockFixture(environments, tomcatsByEnv, actuatorsByEnv, dictionary, now);
+    }
+
+    DashboardBlockAssembler assembler(int parallelism, int threshold) {
+        return new DashboardBlockAssembler(decisionEngine(), dictionary, new DashboardProperties(parallelism, threshold));
+    }
+
+    List<DashboardEnvironmentBlockDto> assemble(DashboardBlockAssembler assembler) {
+        return assembler.assemble(environments, tomcatsByEnv, actuatorsByEnv, now);
+    }
+
+    private static DecisionEngine decisionEngine() {
+        ScanCadence cadence = new ScanCadence(
+                new ScanCadenceProperties(true, 5_000, 15_000, 60_000, 2, 4),
+                new ScanDemand(new ScanDemandProperties(false, 1, 1, 1, 1, 1, 1))
+        );
+        return new DecisionEngine(
+                new DecisionProperties(12, 2, 3, Duration.ofSeconds(15), 4, 20, Duration.ZERO),
+                cadence,
+                mock(DecisionSampleRepository.class),
+                new ScanLeaseProperties(false, null, 1)
+        );
+    }
+}
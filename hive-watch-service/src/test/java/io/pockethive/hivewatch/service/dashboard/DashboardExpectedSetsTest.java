@@ -0,0 +1,62 @@
+package io.pockethive.hivewatch.service.dashboard;
+
+import io.pockethive.hivewatch.service.api.ExpectedSetMode;
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.expectedsets.ExpectedSetDictionary;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecEntity;
+import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecEntity;
+import io.pockethive.hivewatch.service.topology.EnvironmentTopology;
+import io.pockethive.hivewatch.service.topology.TopologySnapshot;
+import io.pockethive.hivewatch.service.topology.TopologySnapshots;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DashboardExpectedSetsTest {
+    @Test
+    void templateSpecsWithoutAKnownTemplateExpectNothing() {
+        UUID environmentId = UUID.randomUUID();
+        UUID templateId = UUID.randomUUID();
+        UUID withTemplate = UUID.randomUUID();
+        UUID deletedTemplate = UUID.randomUUID();
+        UUID unknownTemplate = UUID.randomUUID();
+        Instant now = Instant.now();
+        EnvironmentTopology topology = new EnvironmentTopology(
+                new EnvironmentEntity(environmentId, "env"),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of(
+                        new TomcatExpectedWebappSpecEntity(UUID.randomUUID(), withTemplate, TomcatRole.SERVICES, ExpectedSetMode.TEMPLATE, templateId, now),
+                        new TomcatExpectedWebappSpecEntity(UUID.randomUUID(), deletedTemplate, TomcatRole.SERVICES, ExpectedSetMode.TEMPLATE, null, now),
+                        new TomcatExpectedWebappSpecEntity(UUID.randomUUID(), unknownTemplate, TomcatRole.SERVICES, ExpectedSetMode.TEMPLATE, UUID.randomUUID(), now)
+                ),
+                List.of(),
+                List.of(
+                        new DockerExpectedServiceSpecEntity(UUID.randomUUID(), withTemplate, ExpectedSetMode.TEMPLATE, templateId, now),
+                        new DockerExpectedServiceSpecEntity(UUID.randomUUID(), deletedTemplate, ExpectedSetMode.TEMPLATE, null, now)
+                ),
+                List.of()
+        );
+        TopologySnapshots snapshots = mock(TopologySnapshots.class);
+        when(snapshots.current()).thenReturn(new TopologySnapshot(
+                1, now, Map.of(environmentId, topology), Map.of(templateId, List.of("/app"))));
+
+        DashboardExpectedSets.EnvironmentSets sets =
+                new DashboardExpectedSets(snapshots, new ExpectedSetDictionary()).forEnvironment(environmentId);
+
+        assertEquals(List.of("/app"), sets.tomcat(withTemplate, TomcatRole.SERVICES).values());
+        assertEquals(List.of("/app"), sets.docker(withTemplate).values());
+        assertTrue(sets.tomcat(deletedTemplate, TomcatRole.SERVICES).isEmpty());
+        assertTrue(sets.docker(deletedTemplate).isEmpty());
+        assertTrue(sets.tomcat(unknownTemplate, TomcatRole.SERVICES).isEmpty());
+    }
+}
@@ -0,0 +1,138 @@
+package io.pockethive.hivewatch.service.dashboard;
+
+import io.pockethive.hivewatch.service.actuator.ActuatorTargetEntity;
+import io.pockethive.hivewatch.service.actuator.ActuatorTargetRepository;
+import io.pockethive.hivewatch.service.actuator.ActuatorTargetScanStateRepository;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.environments.EnvironmentRepository;
+import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
+import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
+import io.pockethive.hivewatch.service.expectedsets.ExpectedSetTemplateItemRepository;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceRepository;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecRepository;
+import io.pockethive.hivewatch.service.expectedsets.tomcat.TomcatExpectedWebappSpecRepository;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetRepository;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetScanStateRepository;
+import io.pockethive.hivewatch.service.tomcat.expected.TomcatExpectedWebappRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+class DashboardReadRepositoryBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(DashboardReadRepositoryBenchmarkTest.class);
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+        .withDatabaseName("hive_watch_test")
+        .withUsername("hive_watch")
+        .withPassword("hive_watch");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("HW_DB_URL", postgres::getJdbcUrl);
+        registry.add("HW_DB_USER", postgres::getUsername);
+        registry.add("HW_DB_PASSWORD", postgres::getPassword);
+    }
+
+    @Autowired
+    private DashboardReadRepository dashboardReadRepository;
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+    @Autowired
+    private ServerRepository serverRepository;
+    @Autowired
+    private TomcatTargetRepository tomcatTargetRepository;
+    @Autowired
+    private TomcatTargetScanStateRepository tomcatTargetScanStateRepository;
+    @Autowired
+    private TomcatExpectedWebappRepository tomcatExpectedWebappRepository;
+    @Autowired
+    private TomcatExpectedWebappSpecRepository tomcatExpectedWebappSpecRepository;
+    @Autowired
+    private ActuatorTargetRepository actuatorTargetRepository;
+    @Autowired
+    private ActuatorTargetScanStateRepository actuatorTargetScanStateRepository;
+    @Autowired
+    private DockerExpectedServiceSpecRepository dockerExpectedServiceSpecRepository;
+    @Autowired
+    private DockerExpectedServiceRepository dockerExpectedServiceRepository;
+    @Autowired
+    private ExpectedSetTemplateItemRepository expectedSetTemplateItemRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void projectionMatchesEntityLoadAndReportsTimings() {
+        List<UUID> envIds = environmentRepository.findAll().stream().map(EnvironmentEntity::getId).toList();
+
+        Set<UUID> projectedTargets = transactionTemplate.execute(status -> {
+            Set<UUID> ids = dashboardReadRepository.findTomcatTargets(envIds).stream()
+                    .map(DashboardReadRepository.TomcatTargetRow::targetId)
+                    .collect(Collectors.toSet());
+            dashboardReadRepository.findActuatorTargets(envIds).forEach(r -> ids.add(r.targetId()));
+            return ids;
+        });
+        Set<UUID> entityTargets = transactionTemplate.execute(status -> {
+            List<UUID> serverIds = serverRepository.findByEnvironmentIdIn(envIds).stream().map(ServerEntity::getId).toList();
+            Set<UUID> ids = tomcatTargetRepository.findByServerIdIn(serverIds).stream()
+                    .map(TomcatTargetEntity::getId)
+                    .collect(Collectors.toSet());
+            actuatorTargetRepository.findByServerIdIn(serverIds).forEach(t -> ids.add(t.getId()));
+            return ids;
+        });
+        assertEquals(entityTargets, projectedTargets);
+
+        long projectionNanos = time(() -> {
+            dashboardReadRepository.findTomcatTargets(envIds);
+            dashboardReadRepository.findActuatorTargets(envIds);
+            return null;
+        });
+        long entityNanos = time(() -> {
+            List<UUID> serverIds = serverRepository.findByEnvironmentIdIn(envIds).stream().map(ServerEntity::getId).toList();
+            List<TomcatTargetEntity> tomcats = tomcatTargetRepository.findByServerIdIn(serverIds);
+            List<ActuatorTargetEntity> actuators = actuatorTargetRepository.findByServerIdIn(serverIds);
+            tomcatTargetScanStateRepository.findAllById(tomcats.stream().map(TomcatTargetEntity::getId).toList());
+            actuatorTargetScanStateRepository.findAllById(actuators.stream().map(ActuatorTargetEntity::getId).toList());
+            tomcatExpectedWebappSpecRepository.findByServerIdIn(serverIds);
+            tomcatExpectedWebappRepository.findByServerIdIn(serverIds);
+            dockerExpectedServiceSpecRepository.findByServerIdIn(serverIds);
+            dockerExpectedServiceRepository.findByServerIdIn(serverIds);
+            expectedSetTemplateItemRepository.findAll();
+            return null;
+        });
+
+        log.info("Dashboard load over {} environments: projection {} us/op, entities {} us/op",
+                envIds.size(), projectionNanos / ITERATIONS / 1_000, entityNanos / ITERATIONS / 1_000);
+    }
+
+    private long time(Supplier<Void> load) {
+        for (int i = 0; i < WARMUP; i++) {
+            transactionTemplate.execute(status -> load.get());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            transactionTemplate.execute(status -> load.get());
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,149 @@
+package io.pockethive.hivewatch.service.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+    private static final long MAX_LAG_MS = 1_000;
+    private static final long CHECK_MS = 10;
+
+    private final NoOpTransactionManager transactionManager = new NoOpTransactionManager();
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaOnlyWhileItIsCaughtUp() throws Exception {
+        AtomicReference<Double> lag = new AtomicReference<>(0.0);
+        ReplicationLagGuard guard = new ReplicationLagGuard(replicaReporting(lag), MAX_LAG_MS, CHECK_MS, new SimpleMeterRegistry());
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(guard);
+
+        // Not trusted until the first lag check has run.
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routeReadOnly(routing));
+
+        guard.check();
+        assertEquals(ReadWriteRoutingDataSource.REPLICA, routeReadOnly(routing));
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey(), "no transaction");
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routeReadWrite(routing));
+
+        lag.set(5_000.0);
+        guard.check();
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routeReadOnly(routing));
+
+        lag.set(null);
+        guard.check();
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routeReadOnly(routing), "replica promoted or not in recovery");
+
+        lag.set(0.0);
+        guard.check();
+        assertEquals(ReadWriteRoutingDataSource.REPLICA, routeReadOnly(routing));
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToThePrimary() throws Exception {
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReplicationLagGuard guard = new ReplicationLagGuard(replica, MAX_LAG_MS, CHECK_MS, new SimpleMeterRegistry());
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(guard);
+
+        guard.check();
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routeReadOnly(routing));
+    }
+
+    @Test
+    void primaryReadsBypassACaughtUpReplica() throws Exception {
+        ReplicationLagGuard guard = new ReplicationLagGuard(
+                replicaReporting(new AtomicReference<>(0.0)), MAX_LAG_MS, CHECK_MS, new SimpleMeterRegistry());
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(guard);
+        guard.check();
+        PrimaryReads primaryReads = new PrimaryReads(transactionManager);
+
+        assertEquals(ReadWriteRoutingDataSource.REPLICA, routeReadOnly(routing));
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, primaryReads.call(routing::determineCurrentLookupKey));
+        assertEquals(ReadWriteRoutingDataSource.REPLICA, routeReadOnly(routing), "marker cleared afterwards");
+    }
+
+    @Test
+    void lagChecksRunOnTheirOwnThread() throws Exception {
+        AtomicReference<Double> lag = new AtomicReference<>(0.0);
+        ReplicationLagGuard guard = new ReplicationLagGuard(replicaReporting(lag), MAX_LAG_MS, CHECK_MS, new SimpleMeterRegistry());
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(guard);
+        guard.start();
+        try {
+            awaitRoute(routing, ReadWriteRoutingDataSource.REPLICA);
+
+            lag.set(5_000.0);
+            awaitRoute(routing, ReadWriteRoutingDataSource.PRIMARY);
+        } finally {
+            guard.stop();
+        }
+    }
+
+    private void awaitRoute(ReadWriteRoutingDataSource routing, Object expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!expected.equals(routeReadOnly(routing))) {
+            assertTrue(System.nanoTime() < deadline, "lag guard never routed to " + expected);
+            Thread.sleep(10);
+        }
+    }
+
+    private Object routeReadOnly(ReadWriteRoutingDataSource routing) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> routing.determineCurrentLookupKey());
+    }
+
+    private Object routeReadWrite(ReadWriteRoutingDataSource routing) {
+        return new TransactionTemplate(transactionManager).execute(status -> routing.determineCurrentLookupKey());
+    }
+
+    // A replica whose lag query returns the given value; null stands for "not in recovery".
+    private static DataSource replicaReporting(AtomicReference<Double> lag) throws SQLException {
+        DataSource replica = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getDouble(1)).thenAnswer(invocation -> lag.get() == null ? 0.0 : lag.get());
+        when(rs.wasNull()).thenAnswer(invocation -> lag.get() == null);
+        return replica;
+    }
+
+    // Drives transaction synchronization (and so the read-only flag) without a real connection.
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
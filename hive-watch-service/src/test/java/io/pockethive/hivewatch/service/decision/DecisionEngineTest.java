@@ -1,18 +1,40 @@
 package io.pockethive.hivewatch.service.decision;
 
+import io.pockethive.hivewatch.service.api.DecisionAggregation;
+import io.pockethive.hivewatch.service.api.DecisionComparator;
+import io.pockethive.hivewatch.service.api.DecisionMetric;
+import io.pockethive.hivewatch.service.api.DecisionRuleDto;
+import io.pockethive.hivewatch.service.api.DecisionRuleScope;
 import io.pockethive.hivewatch.service.api.DecisionVerdict;
 import io.pockethive.hivewatch.service.api.TomcatRole;
 import io.pockethive.hivewatch.service.api.TomcatScanErrorKind;
 import io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind;
+import io.pockethive.hivewatch.service.scans.ScanCadence;
+import io.pockethive.hivewatch.service.scans.ScanCadenceProperties;
+import io.pockethive.hivewatch.service.scans.ScanDemand;
+import io.pockethive.hivewatch.service.scans.ScanDemandProperties;
+import io.pockethive.hivewatch.service.scans.ScanLeaseProperties;
+import io.pockethive.hivewatch.service.state.ScanOutcome;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
 
 class DecisionEngineTest {
-    private final DecisionEngine engine = new DecisionEngine();
+    private final ScanCadence cadence = new ScanCadence(
+            new ScanCadenceProperties(true, 5_000, 15_000, 60_000, 2, 4),
+            new ScanDemand(new ScanDemandProperties(false, 1, 1, 1, 1, 1, 1))
+    );
+    private final DecisionEngine engine = new DecisionEngine(
+            new DecisionProperties(12, 2, 3, Duration.ofSeconds(15), 4, 20, Duration.ZERO),
+            cadence,
+            mock(DecisionSampleRepository.class),
+            new ScanLeaseProperties(false, null, 1)
+    );
 
     @Test
     void blocksOnActuatorDown() {
@@ -107,5 +129,152 @@ class DecisionEngineTest {
         assertEquals(DecisionVerdict.BLOCK, evaluation.verdict());
         assertEquals(1, evaluation.blockIssues());
     }
-}
 
+    @Test
+    void environmentScopedRuleOnlyAppliesToItsEnvironment() {
+        UUID strictEnv = UUID.randomUUID();
+        engine.installPolicy(2, List.of(
+                new DecisionRuleDto(DecisionMetric.CPU_USAGE, DecisionAggregation.LATEST, DecisionComparator.GTE, 0.90, DecisionVerdict.BLOCK, DecisionRuleScope.GLOBAL, null),
+                new DecisionRuleDto(DecisionMetric.CPU_USAGE, DecisionAggregation.LATEST, DecisionComparator.GT, 0.50, DecisionVerdict.WARN, DecisionRuleScope.ENVIRONMENT, strictEnv.toString())
+        ));
+        List<DecisionInputs.ActuatorTargetObservation> actuators = List.of(new DecisionInputs.ActuatorTargetObservation(
+                UUID.randomUUID(),
+                "Docker Swarm",
+                TomcatRole.SERVICES,
+                "http://example",
+                8080,
+                "services",
+                Instant.now(),
+                TomcatScanOutcomeKind.SUCCESS,
+                null,
+                null,
+                "UP",
+                "services-service",
+                0.60,
+                100L
+        ));
+
+        assertEquals(DecisionVerdict.WARN, engine.evaluate(strictEnv, List.of(), actuators).verdict());
+        assertEquals(DecisionVerdict.OK, engine.evaluate(UUID.randomUUID(), List.of(), actuators).verdict());
+    }
+
+    @Test
+    void windowedMeanRuleIgnoresSingleSpike() {
+        UUID targetId = UUID.randomUUID();
+        engine.installPolicy(2, List.of(
+                new DecisionRuleDto(DecisionMetric.CPU_USAGE, DecisionAggregation.MEAN, DecisionComparator.GTE, 0.90, DecisionVerdict.BLOCK, DecisionRuleScope.GLOBAL, null)
+        ));
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < 5; i++) {
+            engine.recordSample(targetId, start.plusSeconds(i), false, 0.30, 100L);
+        }
+        engine.recordSample(targetId, start.plusSeconds(5), false, 0.99, 100L);
+
+        assertEquals(DecisionVerdict.OK, engine.evaluate(List.of(), List.of(actuator(targetId, TomcatScanOutcomeKind.SUCCESS, 0.99))).verdict());
+
+        for (int i = 6; i < 20; i++) {
+            engine.recordSample(targetId, start.plusSeconds(i), false, 0.99, 100L);
+        }
+        DecisionEvaluation sustained = engine.evaluate(List.of(), List.of(actuator(targetId, TomcatScanOutcomeKind.SUCCESS, 0.99)));
+        assertEquals(DecisionVerdict.BLOCK, sustained.verdict());
+        assertEquals("services-service · cpu.mean=99.0%", sustained.issues().get(0).message());
+    }
+
+    @Test
+    void errorBlocksOnlyAfterConsecutiveFailures() {
+        UUID targetId = UUID.randomUUID();
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        engine.recordSample(targetId, start, false, 0.1, 100L);
+        engine.recordSample(targetId, start.plusSeconds(1), true, null, null);
+
+        assertEquals(DecisionVerdict.WARN, engine.evaluate(List.of(), List.of(actuator(targetId, TomcatScanOutcomeKind.ERROR, null))).verdict());
+
+        engine.recordSample(targetId, start.plusSeconds(2), true, null, null);
+
+        assertEquals(DecisionVerdict.BLOCK, engine.evaluate(List.of(), List.of(actuator(targetId, TomcatScanOutcomeKind.ERROR, null))).verdict());
+    }
+
+    @Test
+    void scatteredFailuresOnlyWarn() {
+        UUID targetId = UUID.randomUUID();
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        engine.recordSample(targetId, start, true, null, null);
+        engine.recordSample(targetId, start.plusSeconds(1), false, 0.1, 100L);
+        engine.recordSample(targetId, start.plusSeconds(2), true, null, null);
+
+        // Two of the last three scans failed, but not in a row.
+        assertEquals(DecisionVerdict.WARN, engine.evaluate(List.of(), List.of(actuator(targetId, TomcatScanOutcomeKind.ERROR, null))).verdict());
+    }
+
+    @Test
+    void staleObservationsWarnThenTurnUnknownAndScheduleFlip() {
+        UUID envId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        Instant now = Instant.now();
+
+        DecisionEvaluation fresh = engine.evaluate(envId, List.of(), List.of(actuatorScannedAt(targetId, now.minusSeconds(10))));
+        assertEquals(DecisionVerdict.OK, fresh.verdict());
+        assertEquals(now.minusSeconds(10).plusSeconds(60), fresh.staleAt());
+        assertEquals(List.of(envId), engine.drainStaleEnvironments(fresh.staleAt()));
+
+        DecisionEvaluation warn = engine.evaluate(List.of(), List.of(actuatorScannedAt(targetId, now.minusSeconds(90))));
+        assertEquals(DecisionVerdict.WARN, warn.verdict());
+
+        DecisionEvaluation unknown = engine.evaluate(List.of(), List.of(actuatorScannedAt(targetId, now.minusSeconds(600))));
+        assertEquals(DecisionVerdict.UNKNOWN, unknown.verdict());
+    }
+
+    @Test
+    void staleDeadlineFollowsTheTargetsCurrentCadence() {
+        UUID targetId = UUID.randomUUID();
+        Instant scannedAt = Instant.now().minusSeconds(30);
+
+        assertEquals(DecisionVerdict.OK, engine.evaluate(List.of(), List.of(actuatorScannedAt(targetId, scannedAt))).verdict(),
+                "no cadence here: judged against expected-scan-interval");
+
+        cadence.record(UUID.randomUUID(), targetId, scannedAt, new ScanOutcome(false, 0));
+        assertEquals(DecisionVerdict.WARN, engine.evaluate(List.of(), List.of(actuatorScannedAt(targetId, scannedAt))).verdict(),
+                "unhealthy targets are rescanned every 5s, so 30s without a scan is stale");
+
+        assertEquals(DecisionVerdict.OK, engine.evaluate(List.of(), List.of(actuatorScannedAt(targetId, scannedAt.plusSeconds(1)))).verdict(),
+                "a newer scan from another node falls back to expected-scan-interval");
+    }
+
+    private static DecisionInputs.ActuatorTargetObservation actuatorScannedAt(UUID targetId, Instant scannedAt) {
+        return new DecisionInputs.ActuatorTargetObservation(
+                targetId,
+                "Docker Swarm",
+                TomcatRole.SERVICES,
+                "http://example",
+                8080,
+                "services",
+                scannedAt,
+                TomcatScanOutcomeKind.SUCCESS,
+                null,
+                null,
+                "UP",
+                "services-service",
+                0.1,
+                100L
+        );
+    }
+
+    private static DecisionInputs.ActuatorTargetObservation actuator(UUID targetId, TomcatScanOutcomeKind outcome, Double cpuUsage) {
+        return new DecisionInputs.ActuatorTargetObservation(
+                targetId,
+                "Docker Swarm",
+                TomcatRole.SERVICES,
+                "http://example",
+                8080,
+                "services",
+                Instant.now(),
+                outcome,
+                outcome == TomcatScanOutcomeKind.ERROR ? TomcatScanErrorKind.TIMEOUT : null,
+                outcome == TomcatScanOutcomeKind.ERROR ? "timed out" : null,
+                "UP",
+                "services-service",
+                cpuUsage,
+                100L
+        );
+    }
+}
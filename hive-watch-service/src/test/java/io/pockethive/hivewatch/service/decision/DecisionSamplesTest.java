@@ -0,0 +1,123 @@
+package io.pockethive.hivewatch.service.decision;
+
+import io.pockethive.hivewatch.service.api.DecisionVerdict;
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.api.TomcatScanErrorKind;
+import io.pockethive.hivewatch.service.api.TomcatScanOutcomeKind;
+import io.pockethive.hivewatch.service.scans.ScanCadence;
+import io.pockethive.hivewatch.service.scans.ScanCadenceProperties;
+import io.pockethive.hivewatch.service.scans.ScanDemand;
+import io.pockethive.hivewatch.service.scans.ScanDemandProperties;
+import io.pockethive.hivewatch.service.scans.ScanLeaseProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+class DecisionSamplesTest {
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+        .withDatabaseName("hive_watch_test")
+        .withUsername("hive_watch")
+        .withPassword("hive_watch");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("HW_DB_URL", postgres::getJdbcUrl);
+        registry.add("HW_DB_USER", postgres::getUsername);
+        registry.add("HW_DB_PASSWORD", postgres::getPassword);
+        registry.add("HW_SCAN_SCHEDULER_ENABLED", () -> "false");
+    }
+
+    @Autowired
+    private DecisionSampleRepository decisionSampleRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private DecisionEngine nodeA;
+    private DecisionEngine nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("delete from hw_decision_samples");
+        nodeA = engine("node-a");
+        nodeB = engine("node-b");
+    }
+
+    @Test
+    void nodeThatDidNotScanTheTargetReachesTheSameVerdict() {
+        UUID targetId = UUID.randomUUID();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Instant first = now.minusSeconds(3);
+        Instant second = now.minusSeconds(2);
+        Instant third = now.minusSeconds(1);
+
+        // Node A scans the target; node B only answers dashboard reads for it.
+        nodeA.recordSample(targetId, first, false, null, null);
+        nodeA.recordSample(targetId, second, true, null, null);
+
+        assertEquals(DecisionVerdict.WARN, verdict(nodeA, targetId, second), "one failure is damped");
+        assertEquals(DecisionVerdict.WARN, verdict(nodeB, targetId, second));
+
+        nodeA.recordSample(targetId, third, true, null, null);
+
+        assertEquals(DecisionVerdict.BLOCK, verdict(nodeA, targetId, third));
+        assertEquals(DecisionVerdict.BLOCK, verdict(nodeB, targetId, third));
+    }
+
+    @Test
+    void forgettingATargetDropsItsSharedSamples() {
+        UUID targetId = UUID.randomUUID();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        nodeA.recordSample(targetId, now.minusSeconds(2), false, null, null);
+        nodeA.recordSample(targetId, now.minusSeconds(1), true, null, null);
+
+        nodeA.forgetTarget(targetId);
+
+        assertEquals(List.of(), decisionSampleRepository.recent(List.of(targetId), 12));
+    }
+
+    private DecisionVerdict verdict(DecisionEngine node, UUID targetId, Instant scannedAt) {
+        return node.evaluate(
+                List.of(new DecisionInputs.TomcatTargetObservation(
+                        targetId,
+                        "Touchpoint",
+                        TomcatRole.AUTH,
+                        "http://example",
+                        8081,
+                        scannedAt,
+                        TomcatScanOutcomeKind.ERROR,
+                        TomcatScanErrorKind.TIMEOUT,
+                        "Timeout"
+                )),
+                List.of()
+        ).verdict();
+    }
+
+    private DecisionEngine engine(String nodeId) {
+        return new DecisionEngine(
+                new DecisionProperties(12, 2, 3, Duration.ofSeconds(15), 4, 20, Duration.ZERO),
+                new ScanCadence(
+                        new ScanCadenceProperties(true, 5_000, 15_000, 60_000, 2, 4),
+                        new ScanDemand(new ScanDemandProperties(false, 1, 1, 1, 1, 1, 1))
+                ),
+                decisionSampleRepository,
+                new ScanLeaseProperties(true, nodeId, 60_000)
+        );
+    }
+}
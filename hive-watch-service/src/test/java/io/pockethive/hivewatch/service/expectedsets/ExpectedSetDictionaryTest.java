@@ -0,0 +1,60 @@
+package io.pockethive.hivewatch.service.expectedsets;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpectedSetDictionaryTest {
+    @Test
+    void diffReportsMissingAndUnexpectedInDashboardOrder() {
+        ExpectedSetDictionary dictionary = new ExpectedSetDictionary();
+        EncodedSet expected = dictionary.encode(List.of("/payments", "/Auth", "/billing"));
+        EncodedSet observed = dictionary.encode(List.of("/billing", "/reports", "/admin"));
+
+        ExpectedSetDiff diff = dictionary.diff(expected, observed);
+
+        assertEquals(List.of("/Auth", "/payments"), diff.missing());
+        assertEquals(List.of("/admin", "/reports"), diff.unexpected());
+        assertSame(diff, dictionary.diff(expected, observed));
+        assertTrue(expected.contains("/Auth"));
+        assertFalse(expected.contains("/reports"));
+        assertFalse(expected.contains("/never-seen"));
+    }
+
+    @Test
+    void observedSetsAreEncodedOncePerContentKey() {
+        ExpectedSetDictionary dictionary = new ExpectedSetDictionary();
+        AtomicInteger encodings = new AtomicInteger();
+
+        EncodedSet first = dictionary.observed("hash-1", () -> {
+            encodings.incrementAndGet();
+            return List.of("/app");
+        });
+        EncodedSet second = dictionary.observed("hash-1", () -> {
+            encodings.incrementAndGet();
+            return List.of("/app");
+        });
+
+        assertSame(first, second);
+        assertEquals(1, encodings.get());
+    }
+
+    @Test
+    void dictionaryGrowsPastItsInitialCapacity() {
+        ExpectedSetDictionary dictionary = new ExpectedSetDictionary();
+        List<String> paths = IntStream.range(0, 1_000).mapToObj(i -> "/app-" + i).toList();
+
+        EncodedSet all = dictionary.encode(paths);
+        ExpectedSetDiff diff = dictionary.diff(all, dictionary.encode(paths.subList(1, paths.size())));
+
+        assertEquals(1_000, all.size());
+        assertEquals(List.of("/app-0"), diff.missing());
+        assertTrue(diff.unexpected().isEmpty());
+    }
+}
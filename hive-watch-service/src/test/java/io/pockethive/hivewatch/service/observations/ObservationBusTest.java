@@ -0,0 +1,89 @@
+package io.pockethive.hivewatch.service.observations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObservationBusTest {
+    @Test
+    void slowConsumerDropsOldestWithoutHoldingBackPublisherOrOtherConsumers() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> fast = new CopyOnWriteArrayList<>();
+        List<Integer> slow = new CopyOnWriteArrayList<>();
+        ObservationBus bus = new ObservationBus(new ObservationBusProperties(4), List.of(
+                consumer("fast", o -> fast.add(o.cpuUsage().intValue())),
+                consumer("slow", o -> {
+                    started.countDown();
+                    await(release);
+                    slow.add(o.cpuUsage().intValue());
+                })
+        ), registry);
+        try {
+            for (int i = 1; i <= 20; i++) {
+                bus.publish(observation(i));
+                int published = i;
+                waitUntil(() -> fast.size() == published);
+                if (i == 1) {
+                    assertTrue(started.await(5, TimeUnit.SECONDS));
+                }
+            }
+            assertEquals(IntStream.rangeClosed(1, 20).boxed().toList(), fast);
+
+            release.countDown();
+            waitUntil(() -> !slow.isEmpty() && slow.getLast() == 20);
+            // The observation in hand is still delivered, then only what the 4-slot buffer kept.
+            assertEquals(List.of(1, 17, 18, 19, 20), slow);
+            assertEquals(15, registry.get("hivewatch.observations.dropped").tag("consumer", "slow").counter().count());
+            assertEquals(0, registry.get("hivewatch.observations.dropped").tag("consumer", "fast").counter().count());
+            assertEquals(0, registry.get("hivewatch.observations.lag").tag("consumer", "slow").gauge().value());
+        } finally {
+            bus.shutdown();
+        }
+    }
+
+    private static ObservationConsumer consumer(String name, Consumer<Observation> body) {
+        return new ObservationConsumer() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void accept(Observation observation) {
+                body.accept(observation);
+            }
+        };
+    }
+
+    private static Observation observation(int n) {
+        return new Observation(ObservationSource.ACTUATOR, UUID.randomUUID(), Instant.now(), null, (double) n, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.pockethive.hivewatch.service.scans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FairScanQueueTest {
+    private static final UUID LARGE = UUID.randomUUID();
+    private static final UUID SMALL = UUID.randomUUID();
+
+    @Test
+    void smallEnvironmentIsNotStarvedByLargeOne() throws Exception {
+        FairScanQueue<String> queue = new FairScanQueue<>(id -> 1, 0);
+        for (int i = 0; i < 200; i++) {
+            queue.offer(LARGE, "large-" + i);
+        }
+        queue.offer(SMALL, "small-0");
+        queue.offer(SMALL, "small-1");
+
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            order.add(queue.take().item());
+        }
+
+        assertEquals(List.of("large-0", "small-0", "large-1", "small-1"), order);
+    }
+
+    @Test
+    void weightsAndConcurrencyQuotaBoundEachEnvironment() throws Exception {
+        FairScanQueue<String> queue = new FairScanQueue<>(id -> Map.of(LARGE, 3).getOrDefault(id, 1), 2);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(LARGE, "large-" + i);
+            queue.offer(SMALL, "small-" + i);
+        }
+
+        List<UUID> dispatched = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            dispatched.add(queue.take().environmentId());
+        }
+        assertEquals(2, dispatched.stream().filter(LARGE::equals).count());
+        assertEquals(2, dispatched.stream().filter(SMALL::equals).count());
+
+        Thread blocked = new Thread(() -> {
+            try {
+                queue.take();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        blocked.start();
+        blocked.join(200);
+        assertTrue(blocked.isAlive(), "both environments are at their in-flight quota");
+
+        queue.done(LARGE);
+        blocked.join(2_000);
+        assertFalse(blocked.isAlive());
+    }
+}
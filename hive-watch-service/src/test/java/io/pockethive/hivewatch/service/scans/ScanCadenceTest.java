@@ -0,0 +1,82 @@
+package io.pockethive.hivewatch.service.scans;
+
+import io.pockethive.hivewatch.service.api.ScanCadenceReason;
+import io.pockethive.hivewatch.service.api.ScanDemandLevel;
+import io.pockethive.hivewatch.service.state.ScanOutcome;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScanCadenceTest {
+    private static final UUID ENV = UUID.randomUUID();
+    private static final UUID TARGET = UUID.randomUUID();
+
+    private final ScanDemand demand = new ScanDemand(new ScanDemandProperties(true, 60_000, 3_600_000, 5_000, 15_000, 120_000, 4));
+    private final ScanCadence cadence = new ScanCadence(new ScanCadenceProperties(true, 5_000, 15_000, 60_000, 2, 4), demand);
+
+    @Test
+    void stableTargetsBackOffAndChangesSnapBackToFastInterval() {
+        Instant t = Instant.parse("2026-01-01T00:00:00Z");
+        assertTrue(cadence.isDue(TARGET, t), "unknown targets are always due");
+
+        cadence.record(ENV, TARGET, t, new ScanOutcome(true, 1));
+        assertEquals(ScanCadenceReason.NEW, reason());
+        assertFalse(cadence.isDue(TARGET, t.plusMillis(14_999)));
+        assertTrue(cadence.isDue(TARGET, t.plusMillis(15_000)));
+
+        cadence.record(ENV, TARGET, t = t.plusSeconds(15), new ScanOutcome(true, 1));
+        assertEquals(ScanCadenceReason.OK, reason());
+        cadence.record(ENV, TARGET, t = t.plusSeconds(15), new ScanOutcome(true, 1));
+        assertEquals(ScanCadenceReason.STABLE, reason());
+        assertEquals(60_000, cadence.list(ENV).getFirst().intervalMs());
+
+        cadence.record(ENV, TARGET, t = t.plusSeconds(60), new ScanOutcome(true, 2));
+        assertEquals(ScanCadenceReason.RECENTLY_CHANGED, reason());
+        assertEquals(5_000, cadence.list(ENV).getFirst().intervalMs());
+
+        cadence.record(ENV, TARGET, t.plusSeconds(5), ScanOutcome.TIMEOUT);
+        assertEquals(ScanCadenceReason.UNHEALTHY, reason());
+    }
+
+    @Test
+    void watchedEnvironmentsCapStableIntervalAndIdleOnesUseTheFloor() {
+        Instant t = Instant.now();
+        for (int i = 0; i < 4; i++) {
+            cadence.record(ENV, TARGET, t, new ScanOutcome(true, 1));
+        }
+        assertEquals(ScanCadenceReason.STABLE, reason());
+        assertEquals(ScanDemandLevel.WARM, demand.level(ENV, t));
+        assertFalse(cadence.isDue(TARGET, t.plusSeconds(30)));
+
+        demand.recordRead(ENV);
+        assertEquals(ScanDemandLevel.HOT, demand.level(ENV, t));
+        assertEquals(4, demand.weight(ENV));
+        assertTrue(cadence.isDue(TARGET, t.plusSeconds(15)), "hot environments are scanned at most every 15s");
+
+        Instant idle = t.plusSeconds(7200);
+        assertEquals(ScanDemandLevel.IDLE, demand.level(ENV, idle));
+        assertEquals(120_000, demand.interval(5_000, ScanDemandLevel.IDLE));
+
+        demand.startBurst(ENV);
+        assertEquals(ScanDemandLevel.BURST, demand.level(ENV, idle));
+        assertTrue(cadence.isDue(TARGET, t.plusSeconds(5)), "open test runs scan every 5s");
+        demand.endBurst(ENV);
+        assertEquals(ScanDemandLevel.IDLE, demand.level(ENV, idle));
+    }
+
+    @Test
+    void retainDropsRemovedTargets() {
+        cadence.record(ENV, TARGET, Instant.now(), new ScanOutcome(true, 1));
+        cadence.retain(Set.of());
+        assertTrue(cadence.list(ENV).isEmpty());
+    }
+
+    private ScanCadenceReason reason() {
+        return cadence.list(ENV).getFirst().reason();
+    }
+}
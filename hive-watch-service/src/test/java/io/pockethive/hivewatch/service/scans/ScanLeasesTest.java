@@ -0,0 +1,195 @@
+package io.pockethive.hivewatch.service.scans;
+
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.environments.EnvironmentRepository;
+import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
+import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+class ScanLeasesTest {
+    private static final long TTL_MS = 60_000;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+        .withDatabaseName("hive_watch_test")
+        .withUsername("hive_watch")
+        .withPassword("hive_watch");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("HW_DB_URL", postgres::getJdbcUrl);
+        registry.add("HW_DB_USER", postgres::getUsername);
+        registry.add("HW_DB_PASSWORD", postgres::getPassword);
+        registry.add("HW_SCAN_SCHEDULER_ENABLED", () -> "false");
+    }
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+    @Autowired
+    private ServerRepository serverRepository;
+    @Autowired
+    private TomcatTargetRepository tomcatTargetRepository;
+    @Autowired
+    private ScanLeaseRepository scanLeaseRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ScanLeases nodeA;
+    private ScanLeases nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("delete from hw_scan_leases");
+        jdbc.update("delete from hw_scan_nodes");
+        jdbc.update("delete from hw_environments");
+        nodeA = new ScanLeases(new ScanLeaseProperties(true, "node-a", TTL_MS), scanLeaseRepository);
+        nodeB = new ScanLeases(new ScanLeaseProperties(true, "node-b", TTL_MS), scanLeaseRepository);
+    }
+
+    @Test
+    void shareIsRoundedUpAcrossLiveNodes() {
+        List<UUID> targets = createTargets(5);
+        scanLeaseRepository.heartbeat("node-b", TTL_MS);
+
+        List<UUID> ownedByA = owned(claim(nodeA), targets);
+        List<UUID> ownedByB = owned(claim(nodeB), targets);
+
+        assertEquals(targets.subList(0, 3), ownedByA);
+        assertEquals(targets.subList(3, 5), ownedByB);
+    }
+
+    @Test
+    void joiningNodeTakesOverTheHighestTargetIds() {
+        List<UUID> targets = createTargets(4);
+        assertEquals(targets, owned(claim(nodeA), targets));
+
+        // Node A still holds live leases on everything, so B gets nothing until A gives its excess back.
+        assertEquals(List.of(), owned(claim(nodeB), targets));
+        assertEquals(targets.subList(0, 2), owned(claim(nodeA), targets));
+        assertEquals(targets.subList(2, 4), owned(claim(nodeB), targets));
+        assertEquals(targets.subList(0, 2), owned(claim(nodeA), targets), "stable once balanced");
+    }
+
+    @Test
+    void leavingNodeHandsItsTargetsBack() {
+        List<UUID> targets = balancedAcrossTwoNodes(4);
+
+        nodeB.release();
+
+        assertEquals(0, (int) jdbc.queryForObject("select count(*) from hw_scan_leases where owner = 'node-b'", Integer.class));
+        assertEquals(targets, owned(claim(nodeA), targets));
+    }
+
+    @Test
+    void deadNodesTargetsAreReclaimedOnceTheirLeasesExpire() {
+        List<UUID> targets = balancedAcrossTwoNodes(4);
+        jdbc.update("update hw_scan_nodes set heartbeat_at = now() - interval '1 hour' where node_id = 'node-b'");
+
+        // B no longer counts as live, but its leases still run.
+        assertEquals(targets.subList(0, 2), owned(claim(nodeA), targets));
+
+        jdbc.update("update hw_scan_leases set lease_until = now() - interval '1 second' where owner = 'node-b'");
+
+        assertEquals(targets, owned(claim(nodeA), targets));
+        assertEquals(0, (int) jdbc.queryForObject("select count(*) from hw_scan_nodes where node_id = 'node-b'", Integer.class));
+    }
+
+    @Test
+    void concurrentClaimsSkipRowsLockedByAnotherNode() throws Exception {
+        List<UUID> targets = createTargets(4);
+        scanLeaseRepository.syncTargets();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<List<UUID>> claimedByA = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            List<UUID> claimed = scanLeaseRepository.claim("node-a", TTL_MS, 2);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return claimed;
+        }));
+        try {
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+            List<UUID> claimedByB = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> transactionTemplate.execute(
+                    status -> scanLeaseRepository.claim("node-b", TTL_MS, 4)));
+
+            assertEquals(targets.subList(2, 4), sorted(claimedByB));
+        } finally {
+            release.countDown();
+        }
+        assertEquals(targets.subList(0, 2), sorted(claimedByA.get(10, TimeUnit.SECONDS)));
+    }
+
+    private List<UUID> balancedAcrossTwoNodes(int count) {
+        List<UUID> targets = createTargets(count);
+        scanLeaseRepository.heartbeat("node-b", TTL_MS);
+        int half = count / 2;
+        assertEquals(targets.subList(0, half), owned(claim(nodeA), targets));
+        assertEquals(targets.subList(half, count), owned(claim(nodeB), targets));
+        return targets;
+    }
+
+    private Predicate<UUID> claim(ScanLeases node) {
+        return transactionTemplate.execute(status -> node.claim());
+    }
+
+    private List<UUID> createTargets(int count) {
+        UUID environmentId = UUID.randomUUID();
+        Instant now = Instant.now();
+        environmentRepository.save(new EnvironmentEntity(environmentId, "leases-" + environmentId));
+        List<UUID> targets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID serverId = UUID.randomUUID();
+            UUID targetId = UUID.randomUUID();
+            serverRepository.save(new ServerEntity(serverId, environmentId, "server-" + i, now));
+            tomcatTargetRepository.save(new TomcatTargetEntity(
+                    targetId, serverId, TomcatRole.SERVICES, "http://localhost", 8080, "user", "secret", 1000, 1000, now));
+            targets.add(targetId);
+        }
+        return sorted(targets);
+    }
+
+    private static List<UUID> owned(Predicate<UUID> owns, List<UUID> targets) {
+        return targets.stream().filter(owns).toList();
+    }
+
+    // Postgres orders uuids by their unsigned bytes, which matches their lowercase text form.
+    private static List<UUID> sorted(List<UUID> ids) {
+        return ids.stream().sorted(Comparator.comparing(UUID::toString)).toList();
+    }
+}
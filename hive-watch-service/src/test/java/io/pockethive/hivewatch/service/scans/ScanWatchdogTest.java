@@ -0,0 +1,156 @@
+package io.pockethive.hivewatch.service.scans;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScanWatchdogTest {
+    @Test
+    void interruptsScanPastDeadline() throws Exception {
+        ScanSchedulerProperties properties = new ScanSchedulerProperties(true, 15_000, 0, 1, 50, 10, 45_000, 0, Map.of());
+        ScanWatchdog watchdog = new ScanWatchdog(properties, new SimpleMeterRegistry());
+        ScanExecutor executor = new ScanExecutor(
+                properties,
+                watchdog,
+                new ScanDemand(new ScanDemandProperties(false, 1, 1, 1, 1, 1, 1))
+        );
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicReference<String> timeoutReason = new AtomicReference<>();
+        try {
+            CompletableFuture<Void> scan = executor.submit(UUID.randomUUID(), UUID.randomUUID(), () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }, timeoutReason::set).completion();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+
+            watchdog.check();
+
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            assertThrows(CancellationException.class, () -> scan.get(5, TimeUnit.SECONDS));
+            assertEquals("Scan exceeded 50 ms deadline", timeoutReason.get());
+            awaitNoneInFlight(watchdog);
+            assertEquals(Status.UP, watchdog.health().getStatus());
+            assertEquals(1L, watchdog.health().getDetails().get("cancelledScans"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void scanIgnoringInterruptStaysInFlightAndReportsDown() throws Exception {
+        ScanSchedulerProperties properties = new ScanSchedulerProperties(true, 15_000, 0, 1, 50, 10, 45_000, 0, Map.of());
+        ScanWatchdog watchdog = new ScanWatchdog(properties, new SimpleMeterRegistry());
+        ScanExecutor executor = new ScanExecutor(
+                properties,
+                watchdog,
+                new ScanDemand(new ScanDemandProperties(false, 1, 1, 1, 1, 1, 1))
+        );
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Void> scan = executor.submit(UUID.randomUUID(), UUID.randomUUID(), () -> {
+                started.countDown();
+                while (true) {
+                    try {
+                        release.await();
+                        return;
+                    } catch (InterruptedException ignored) {
+                        // Simulates a client call that does not honour interrupts.
+                    }
+                }
+            }, reason -> {
+            }).completion();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+
+            watchdog.check();
+            assertThrows(CancellationException.class, () -> scan.get(5, TimeUnit.SECONDS));
+            Thread.sleep(150);
+
+            assertEquals(Status.DOWN, watchdog.health().getStatus());
+            assertEquals(1, watchdog.health().getDetails().get("inFlight"));
+
+            release.countDown();
+            awaitNoneInFlight(watchdog);
+            assertEquals(Status.UP, watchdog.health().getStatus());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void deadlineIsEnforcedWhileTheCycleHoldsTheSchedulerThread() throws Exception {
+        ScanSchedulerProperties properties = new ScanSchedulerProperties(true, 15_000, 0, 1, 50, 10, 45_000, 0, Map.of());
+        ScanWatchdog watchdog = new ScanWatchdog(properties, new SimpleMeterRegistry());
+        ScanExecutor executor = new ScanExecutor(
+                properties,
+                watchdog,
+                new ScanDemand(new ScanDemandProperties(false, 1, 1, 1, 1, 1, 1))
+        );
+        // Spring's default: one scheduler thread, held by the cycle until its scans complete.
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch cycleWaiting = new CountDownLatch(1);
+        CountDownLatch cycleDone = new CountDownLatch(1);
+        try {
+            scheduler.execute(() -> {
+                CompletableFuture<Void> scan = executor.submit(UUID.randomUUID(), UUID.randomUUID(), () -> {
+                    try {
+                        Thread.sleep(60_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                }, reason -> {
+                }).completion();
+                cycleWaiting.countDown();
+                try {
+                    scan.get(30, TimeUnit.SECONDS);
+                } catch (Exception ignored) {
+                    // Cancelled by the watchdog.
+                }
+                cycleDone.countDown();
+            });
+            assertTrue(cycleWaiting.await(5, TimeUnit.SECONDS));
+
+            watchdog.start();
+
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS), "watchdog must not depend on the scheduler thread");
+            assertTrue(cycleDone.await(5, TimeUnit.SECONDS));
+            awaitNoneInFlight(watchdog);
+            assertEquals(1L, watchdog.health().getDetails().get("cancelledScans"));
+        } finally {
+            watchdog.stop();
+            scheduler.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    private static void awaitNoneInFlight(ScanWatchdog watchdog) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!Integer.valueOf(0).equals(watchdog.health().getDetails().get("inFlight"))) {
+            assertTrue(System.nanoTime() < deadline, "scan still in flight");
+            Thread.sleep(10);
+        }
+    }
+}
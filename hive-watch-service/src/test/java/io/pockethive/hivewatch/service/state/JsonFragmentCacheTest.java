@@ -0,0 +1,27 @@
+package io.pockethive.hivewatch.service.state;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JsonFragmentCacheTest {
+    @Test
+    void fragmentsMissOnANewRevisionAndOnceTooOld() throws InterruptedException {
+        JsonFragmentCache cache = new JsonFragmentCache(Duration.ofMillis(50));
+        UUID environmentId = UUID.randomUUID();
+        EnvironmentRevision revision = new EnvironmentRevision(1, 1);
+        byte[] json = "{}".getBytes();
+
+        cache.put(environmentId, revision, json);
+
+        assertArrayEquals(json, cache.get(environmentId, revision));
+        assertNull(cache.get(environmentId, new EnvironmentRevision(1, 2)));
+
+        Thread.sleep(100);
+
+        assertNull(cache.get(environmentId, revision), "relative ages in the fragment would be off by now");
+    }
+}
@@ -0,0 +1,84 @@
+package io.pockethive.hivewatch.service.state;
+
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.environments.EnvironmentRepository;
+import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
+import io.pockethive.hivewatch.service.environments.servers.ServerRepository;
+import io.pockethive.hivewatch.service.environments.servers.ServerService;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+class SecondLevelCacheEvictorTest {
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+        .withDatabaseName("hive_watch_test")
+        .withUsername("hive_watch")
+        .withPassword("hive_watch");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("HW_DB_URL", postgres::getJdbcUrl);
+        registry.add("HW_DB_USER", postgres::getUsername);
+        registry.add("HW_DB_PASSWORD", postgres::getPassword);
+        registry.add("HW_SCAN_SCHEDULER_ENABLED", () -> "false");
+    }
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+    @Autowired
+    private ServerRepository serverRepository;
+    @Autowired
+    private ServerService serverService;
+    @Autowired
+    private TomcatTargetRepository tomcatTargetRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void deletingAServerEvictsTargetsRemovedByCascade() {
+        UUID environmentId = UUID.randomUUID();
+        UUID serverId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        Instant now = Instant.now();
+        environmentRepository.save(new EnvironmentEntity(environmentId, "L2-" + environmentId));
+        serverRepository.save(new ServerEntity(serverId, environmentId, "server-1", now));
+        tomcatTargetRepository.save(new TomcatTargetEntity(
+                targetId, serverId, TomcatRole.SERVICES, "http://localhost", 8080, "user", "secret", 1000, 1000, now));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertTrue(tomcatTargetRepository.findById(targetId).isPresent());
+            assertEquals(1, tomcatTargetRepository.findByServerIdIn(List.of(serverId)).size());
+        });
+        assertTrue(entityManagerFactory.getCache().contains(TomcatTargetEntity.class, targetId));
+
+        serverService.delete(environmentId, serverId);
+
+        assertFalse(entityManagerFactory.getCache().contains(TomcatTargetEntity.class, targetId));
+        transactionTemplate.executeWithoutResult(status -> {
+            assertTrue(tomcatTargetRepository.findById(targetId).isEmpty());
+            assertTrue(tomcatTargetRepository.findByServerIdIn(List.of(serverId)).isEmpty());
+        });
+    }
+}
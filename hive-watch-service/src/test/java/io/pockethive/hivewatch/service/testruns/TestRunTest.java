@@ -0,0 +1,77 @@
+package io.pockethive.hivewatch.service.testruns;
+
+import io.pockethive.hivewatch.service.api.DecisionIssueDto;
+import io.pockethive.hivewatch.service.api.DecisionIssueKind;
+import io.pockethive.hivewatch.service.api.DecisionVerdict;
+import io.pockethive.hivewatch.service.api.TestRunReportDto;
+import io.pockethive.hivewatch.service.api.TestRunStatus;
+import io.pockethive.hivewatch.service.api.TestRunTimelineEntryDto;
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.decision.DecisionEvaluation;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestRunTest {
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+    private static final UUID TARGET = UUID.randomUUID();
+
+    @Test
+    void timelineOnlyRecordsChangesWhileReportAccumulatesPeaksAndDurations() {
+        TestRun run = new TestRun(UUID.randomUUID(), UUID.randomUUID(), "soak", T0, T0.plusSeconds(3600), 10);
+
+        run.record(ok(), 0.20, 100L, T0);
+        run.record(ok(), 0.30, 200L, T0.plusSeconds(5));
+        run.record(cpuWarn("cpu=81%"), 0.81, 150L, T0.plusSeconds(10));
+        run.record(cpuWarn("cpu=85%"), 0.85, 150L, T0.plusSeconds(15));
+        run.record(ok(), 0.40, 150L, T0.plusSeconds(20));
+        assertTrue(run.close(TestRunStatus.CLOSED, T0.plusSeconds(30)));
+        assertFalse(run.close(TestRunStatus.EXPIRED, T0.plusSeconds(40)));
+
+        TestRunReportDto report = run.report(T0.plusSeconds(60));
+        assertEquals(TestRunStatus.CLOSED, report.status());
+        assertEquals(5, report.evaluations());
+        assertEquals(List.of(DecisionVerdict.OK, DecisionVerdict.WARN, DecisionVerdict.OK),
+                report.timeline().stream().map(TestRunTimelineEntryDto::verdict).toList());
+        assertEquals(DecisionVerdict.WARN, report.worstVerdict());
+        assertEquals(DecisionVerdict.OK, report.finalVerdict());
+        assertEquals(0.85, report.peakCpuUsage());
+        assertEquals(200L, report.peakMemoryUsedBytes());
+        assertEquals(20_000L, report.verdictDurationsMs().get(DecisionVerdict.OK));
+        assertEquals(10_000L, report.verdictDurationsMs().get(DecisionVerdict.WARN));
+    }
+
+    @Test
+    void timelineIsCappedAndFlaggedAsTruncated() {
+        TestRun run = new TestRun(UUID.randomUUID(), UUID.randomUUID(), null, T0, T0.plusSeconds(3600), 2);
+        for (int i = 0; i < 4; i++) {
+            run.record(i % 2 == 0 ? ok() : cpuWarn("cpu"), null, null, T0.plusSeconds(i));
+        }
+        TestRunReportDto report = run.report(T0.plusSeconds(4));
+        assertEquals(2, report.timeline().size());
+        assertTrue(report.timelineTruncated());
+        assertEquals(DecisionVerdict.WARN, report.finalVerdict());
+    }
+
+    private static DecisionEvaluation ok() {
+        return new DecisionEvaluation(DecisionVerdict.OK, List.of(), 0, 0, 0, null);
+    }
+
+    private static DecisionEvaluation cpuWarn(String message) {
+        DecisionIssueDto issue = new DecisionIssueDto(
+                DecisionVerdict.WARN,
+                DecisionIssueKind.ACTUATOR_TARGET,
+                TARGET,
+                "app-1",
+                TomcatRole.values()[0],
+                "Actuator",
+                message
+        );
+        return new DecisionEvaluation(DecisionVerdict.WARN, List.of(issue), 0, 1, 0, null);
+    }
+}
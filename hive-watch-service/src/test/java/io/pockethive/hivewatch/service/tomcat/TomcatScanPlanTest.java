@@ -0,0 +1,45 @@
+package io.pockethive.hivewatch.service.tomcat;
+
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TomcatScanPlanTest {
+    private static final UUID ID = UUID.randomUUID();
+
+    @Test
+    void compilesRequestOnceAndRecompilesOnlyWhenTheTargetChanges() {
+        TomcatTargetEntity target = target("http://app-1", 8080, "secret");
+        TomcatScanPlan plan = TomcatScanPlan.compile(target);
+
+        assertNull(plan.error());
+        assertEquals(URI.create("http://app-1:8080/manager/html"), plan.request().uri());
+        assertEquals("Basic YWRtaW46c2VjcmV0", plan.request().headers().firstValue("Authorization").orElseThrow());
+        assertEquals(Duration.ofMillis(2000), plan.request().timeout().orElseThrow());
+        assertSame(plan.client(), TomcatScanPlan.compile(target("http://app-2", 9090, "other")).client());
+
+        assertTrue(plan.compiledFrom(target("http://app-1", 8080, "secret")));
+        assertFalse(plan.compiledFrom(target("http://app-1", 8080, "rotated")));
+    }
+
+    @Test
+    void invalidTargetCompilesToItsError() {
+        TomcatScanPlan plan = TomcatScanPlan.compile(target("http://app-1/manager", 8080, "secret"));
+
+        assertEquals("baseUrl must not include a path", plan.error());
+        assertNull(plan.request());
+    }
+
+    private static TomcatTargetEntity target(String baseUrl, int port, String password) {
+        return new TomcatTargetEntity(ID, UUID.randomUUID(), TomcatRole.PAYMENTS, baseUrl, port, "admin", password, 1000, 2000, Instant.EPOCH);
+    }
+}
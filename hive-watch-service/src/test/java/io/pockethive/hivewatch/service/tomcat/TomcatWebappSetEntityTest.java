@@ -0,0 +1,38 @@
+package io.pockethive.hivewatch.service.tomcat;
+
+import io.pockethive.hivewatch.service.api.TomcatWebappDto;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TomcatWebappSetEntityTest {
+    private static final TomcatWebappDto APP = new TomcatWebappDto("/app", "app", "1.0");
+    private static final TomcatWebappDto OTHER = new TomcatWebappDto("/other", "other", "2.0");
+
+    @Test
+    void sameContentSharesOneHash() {
+        assertEquals(
+                TomcatWebappSetEntity.of(List.of(APP, OTHER)).getHash(),
+                TomcatWebappSetEntity.of(List.of(new TomcatWebappDto("/app", "app", "1.0"), OTHER)).getHash()
+        );
+        assertEquals(TomcatWebappSetEntity.of(null).getHash(), TomcatWebappSetEntity.of(List.of()).getHash());
+    }
+
+    @Test
+    void fieldBoundariesNullsAndOrderChangeTheHash() {
+        assertNotEquals(
+                TomcatWebappSetEntity.hashOf(List.of(new TomcatWebappDto("/ab", "c", null))),
+                TomcatWebappSetEntity.hashOf(List.of(new TomcatWebappDto("/a", "bc", null)))
+        );
+        assertNotEquals(
+                TomcatWebappSetEntity.hashOf(List.of(new TomcatWebappDto("/app", "app", null))),
+                TomcatWebappSetEntity.hashOf(List.of(new TomcatWebappDto("/app", "app", "")))
+        );
+        assertNotEquals(
+                TomcatWebappSetEntity.hashOf(List.of(APP, OTHER)),
+                TomcatWebappSetEntity.hashOf(List.of(OTHER, APP))
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package io.pockethive.hivewatch.service.topology;
+
+import io.pockethive.hivewatch.service.api.ExpectedSetMode;
+import io.pockethive.hivewatch.service.api.TomcatRole;
+import io.pockethive.hivewatch.service.environments.EnvironmentEntity;
+import io.pockethive.hivewatch.service.environments.servers.ServerEntity;
+import io.pockethive.hivewatch.service.expectedsets.ExpectedSetTemplateItemEntity;
+import io.pockethive.hivewatch.service.expectedsets.docker.DockerExpectedServiceSpecEntity;
+import io.pockethive.hivewatch.service.tomcat.TomcatTargetEntity;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopologySnapshotTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void groupsRowsByEnvironmentThroughTheirServer() {
+        EnvironmentEntity dev = new EnvironmentEntity(UUID.randomUUID(), "dev");
+        EnvironmentEntity empty = new EnvironmentEntity(UUID.randomUUID(), "empty");
+        ServerEntity server = new ServerEntity(UUID.randomUUID(), dev.getId(), "app-1", NOW);
+        TomcatTargetEntity tomcat = new TomcatTargetEntity(
+                UUID.randomUUID(), server.getId(), TomcatRole.PAYMENTS, "http://app-1", 8080, "u", "p", 1000, 2000, NOW);
+        UUID templateId = UUID.randomUUID();
+        DockerExpectedServiceSpecEntity spec = new DockerExpectedServiceSpecEntity(
+                UUID.randomUUID(), server.getId(), ExpectedSetMode.TEMPLATE, templateId, NOW);
+
+        TopologySnapshot snapshot = TopologySnapshot.of(7, NOW, new TopologySnapshot.Rows(
+                List.of(dev, empty),
+                List.of(server),
+                List.of(tomcat),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of(spec),
+                List.of(),
+                List.of(
+                        new ExpectedSetTemplateItemEntity(UUID.randomUUID(), templateId, "payments", NOW),
+                        new ExpectedSetTemplateItemEntity(UUID.randomUUID(), templateId, "ledger", NOW)
+                )
+        ));
+
+        assertEquals(7, snapshot.version());
+        EnvironmentTopology topology = snapshot.environment(dev.getId()).orElseThrow();
+        assertEquals(List.of(tomcat), topology.tomcatTargets());
+        assertEquals(List.of(spec), topology.dockerExpectedServiceSpecs());
+        assertEquals(server, topology.serverById().get(server.getId()));
+        assertTrue(snapshot.environment(empty.getId()).orElseThrow().servers().isEmpty());
+        assertTrue(snapshot.environment(UUID.randomUUID()).isEmpty());
+        assertEquals(List.of("payments", "ledger"), snapshot.templateItems(templateId));
+        assertThrows(UnsupportedOperationException.class, () -> topology.tomcatTargets().add(tomcat));
+    }
+}